@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the calendar calculations backed by {@link CalendarTable} with the arithmetic
+ * used for the years out of the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarBenchmark {
+
+    private int year = 2018;
+    private int month = 7;
+    private int day = 20;
+    private long epochDay = java.time.LocalDate.of(2018, 7, 20)
+                                               .toEpochDay();
+
+    @Benchmark
+    public boolean isLeapYear() {
+        return Years.isLeapYear(year);
+    }
+
+    @Benchmark
+    public boolean computeLeapYear() {
+        return Years.computeLeapYear(year);
+    }
+
+    @Benchmark
+    public int daysInMonth() {
+        return Months.daysInMonth(year, MonthOfYear.FEBRUARY);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        return PackedLocalDate.toEpochDay(year, month, day);
+    }
+
+    @Benchmark
+    public long computeEpochDay() {
+        return PackedLocalDate.computeEpochDay(year, month, day);
+    }
+
+    @Benchmark
+    public int ofEpochDay() {
+        return PackedLocalDate.ofEpochDay(epochDay);
+    }
+
+    @Benchmark
+    public int ofEpochDayOutOfTable() {
+        return PackedLocalDate.ofEpochDay(epochDay + 200 * 365);
+    }
+
+    @Benchmark
+    public LocalDate localDateOf() {
+        return LocalDates.of(year, MonthOfYear.JULY, day);
+    }
+}
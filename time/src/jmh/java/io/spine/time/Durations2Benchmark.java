@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures arithmetic and conversions of {@link Durations2}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Durations2Benchmark {
+
+    private final Duration duration = Durations2.hoursAndMinutes(2, 30);
+    private final Duration another = Durations2.nanos(123_456_789);
+
+    @Benchmark
+    public Duration hoursAndMinutes() {
+        return Durations2.hoursAndMinutes(2, 30);
+    }
+
+    @Benchmark
+    public Duration add() {
+        return Durations2.add(duration, another);
+    }
+
+    @Benchmark
+    public long toNanos() {
+        return Durations2.toNanos(duration);
+    }
+
+    @Benchmark
+    public long toSeconds() {
+        return Durations2.toSeconds(duration);
+    }
+
+    @Benchmark
+    public long toMinutes() {
+        return Durations2.toMinutes(duration);
+    }
+
+    @Benchmark
+    public long getHours() {
+        return Durations2.getHours(duration);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return Durations2.isGreaterThan(duration, another);
+    }
+
+    @Benchmark
+    public boolean isPositiveOrZero() {
+        return Durations2.isPositiveOrZero(duration);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stabbing queries of {@link IntervalIndex} with a linear scan using
+ * {@link Intervals#contains(Interval, Timestamp)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalIndexBenchmark {
+
+    private static final long BASE_SECONDS = 1_500_000_000L;
+    private static final int SPAN_SECONDS = 30 * 24 * 3600;
+
+    @Param({"10000"})
+    private int size;
+
+    private List<Interval> intervals;
+    private IntervalIndex index;
+    private Timestamp point;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        intervals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long start = BASE_SECONDS + random.nextInt(SPAN_SECONDS);
+            long end = start + 1 + random.nextInt(3600);
+            intervals.add(Intervals.between(Timestamps.fromSeconds(start),
+                                            Timestamps.fromSeconds(end)));
+        }
+        index = IntervalIndex.of(intervals);
+        point = Timestamps.fromSeconds(BASE_SECONDS + SPAN_SECONDS / 2);
+    }
+
+    @Benchmark
+    public ImmutableList<Interval> indexContaining() {
+        return index.containing(point);
+    }
+
+    @Benchmark
+    public List<Interval> linearContaining() {
+        List<Interval> result = new ArrayList<>();
+        for (Interval interval : intervals) {
+            if (Intervals.contains(interval, point)) {
+                result.add(interval);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean indexAnyContains() {
+        return index.anyContains(point);
+    }
+
+    @Benchmark
+    public IntervalIndex build() {
+        return IntervalIndex.of(intervals);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.Range;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of {@link Intervals}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalsBenchmark {
+
+    private final Timestamp start = Timestamps.fromSeconds(1_500_000_000L);
+    private final Timestamp end = Timestamps.fromSeconds(1_500_003_600L);
+    private final Timestamp inside = Timestamps.fromMillis(1_500_001_800_500L);
+    private final Interval interval = Intervals.between(start, end);
+
+    /** A day worth of events, one per second, sorted. */
+    private long[] column;
+    private List<Timestamp> timestamps;
+
+    @Setup
+    public void setUp() {
+        int size = 24 * 3600;
+        column = new long[size];
+        timestamps = new ArrayList<>(size);
+        long first = Timestamps.toNanos(start) - 12 * 3600 * 1_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            column[i] = first + i * 1_000_000_000L;
+            timestamps.add(Timestamps.fromNanos(column[i]));
+        }
+    }
+
+    @Benchmark
+    public Interval between() {
+        return Intervals.between(start, end);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return Intervals.contains(interval, inside);
+    }
+
+    @Benchmark
+    public com.google.protobuf.Duration toDuration() {
+        return Intervals.toDuration(interval);
+    }
+
+    @Benchmark
+    public long toNanos() {
+        return Intervals.toNanos(interval);
+    }
+
+    @Benchmark
+    public int containsInLoop() {
+        int count = 0;
+        for (Timestamp timestamp : timestamps) {
+            if (Intervals.contains(interval, timestamp)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Range<Integer> indexRangeOfColumn() {
+        return Intervals.indexRange(interval, column);
+    }
+
+    @Benchmark
+    public Range<Integer> indexRangeOfList() {
+        return Intervals.indexRange(interval, timestamps);
+    }
+
+    @Benchmark
+    public BitSet indexesWithinColumn() {
+        return Intervals.indexesWithin(interval, column);
+    }
+
+    @Benchmark
+    public BitSet indexesWithinList() {
+        return Intervals.indexesWithin(interval, timestamps);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation of {@link LocalDate} values including their validation, and their
+ * conversion to and from epoch days and {@code Timestamp}s, and calendar arithmetic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDatesBenchmark {
+
+    private final java.time.LocalDate javaTimeDate = java.time.LocalDate.of(2018, 7, 20);
+    private final LocalDate date = LocalDates.of(2018, MonthOfYear.JULY, 20);
+    private final long epochDay = javaTimeDate.toEpochDay();
+    private final Timestamp timestamp = Timestamps.fromSeconds(1_532_095_200L);
+    private final ZoneOffset offset = ZoneOffsets.ofHours(3);
+
+    @Benchmark
+    public LocalDate of() {
+        return LocalDates.of(2018, MonthOfYear.JULY, 20);
+    }
+
+    @Benchmark
+    public LocalDate ofLeapDay() {
+        return LocalDates.of(2016, MonthOfYear.FEBRUARY, 29);
+    }
+
+    @Benchmark
+    public LocalDate ofJavaTime() {
+        return LocalDates.of(javaTimeDate);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        return LocalDates.toEpochDay(date);
+    }
+
+    @Benchmark
+    public long toEpochDayWithJavaTime() {
+        return LocalDates.toJavaTime(date)
+                         .toEpochDay();
+    }
+
+    @Benchmark
+    public LocalDate ofEpochDay() {
+        return LocalDates.ofEpochDay(epochDay);
+    }
+
+    @Benchmark
+    public LocalDate dateAt() {
+        return LocalDates.dateAt(timestamp, offset);
+    }
+
+    @Benchmark
+    public LocalDate dateAtWithJavaTime() {
+        java.time.LocalDate result =
+                java.time.Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos())
+                                 .atOffset(ZoneOffsets.toJavaTime(offset))
+                                 .toLocalDate();
+        return LocalDates.of(result);
+    }
+
+    @Benchmark
+    public Timestamp toTimestamp() {
+        return LocalDates.toTimestamp(date, offset);
+    }
+
+    @Benchmark
+    public LocalDate plusDays() {
+        return LocalDates.plusDays(date, 45);
+    }
+
+    @Benchmark
+    public LocalDate plusDaysWithJavaTime() {
+        return LocalDates.of(LocalDates.toJavaTime(date)
+                                       .plusDays(45));
+    }
+
+    @Benchmark
+    public LocalDate plusMonths() {
+        return LocalDates.plusMonths(date, 7);
+    }
+
+    @Benchmark
+    public int isoWeekOfYear() {
+        return LocalDates.isoWeekOfYear(date);
+    }
+}
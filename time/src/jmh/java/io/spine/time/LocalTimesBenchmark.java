@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares obtaining local time at an offset by {@link LocalTimes} with the conversion
+ * through Java Time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalTimesBenchmark {
+
+    private final Timestamp time = Timestamps.fromNanos(1_532_095_200_123_456_789L);
+    private final long epochNanos = Timestamps.toNanos(time);
+    private final ZoneOffset zoneOffset = ZoneOffsets.ofHoursMinutes(5, 30);
+
+    @Benchmark
+    public LocalTime timeAt() {
+        return LocalTimes.timeAt(time, zoneOffset);
+    }
+
+    @Benchmark
+    public long nanoOfDayAt() {
+        return LocalTimes.nanoOfDayAt(time, zoneOffset);
+    }
+
+    @Benchmark
+    public long epochNanosNanoOfDayAt() {
+        return LocalTimes.nanoOfDayAt(epochNanos, zoneOffset);
+    }
+
+    @Benchmark
+    public LocalTime javaTimeAt() {
+        Instant instant = Instant.ofEpochMilli(Timestamps.toMillis(time));
+        java.time.LocalTime lt = instant.atOffset(ZoneOffsets.toJavaTime(zoneOffset))
+                                        .toLocalTime();
+        return LocalTimes.of(lt);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk conversion by {@link OffsetDateTimeBatch} with the conversion of each
+ * value through Java Time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffsetDateTimeBatchBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final long FIRST_NANO = 1_500_000_000_000_000_000L;
+    private static final long STEP_NANOS = 1_234_567_890L;
+    private static final String ZONE = "Europe/London";
+
+    private final ZoneId zoneId = ZoneIds.of(ZONE);
+    private final java.time.ZoneId javaZoneId = java.time.ZoneId.of(ZONE);
+
+    private long[] epochNanos;
+
+    @Setup
+    public void setUp() {
+        epochNanos = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochNanos[i] = FIRST_NANO + i * STEP_NANOS;
+        }
+    }
+
+    @Benchmark
+    public OffsetDateTimeBatch batch() {
+        return OffsetDateTimeBatch.of(epochNanos, zoneId);
+    }
+
+    @Benchmark
+    public OffsetDateTimeBatch parallelBatch() {
+        return OffsetDateTimeBatch.parallelOf(epochNanos, zoneId);
+    }
+
+    @Benchmark
+    public OffsetDateTime[] batchToMessages() {
+        OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(epochNanos, zoneId);
+        OffsetDateTime[] result = new OffsetDateTime[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = batch.get(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public OffsetDateTime[] javaTime() {
+        OffsetDateTime[] result = new OffsetDateTime[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            java.time.OffsetDateTime value = Instant.ofEpochSecond(0, epochNanos[i])
+                                                    .atZone(javaZoneId)
+                                                    .toOffsetDateTime();
+            result[i] = OffsetDateTimes.of(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing, formatting, and comparison of {@link OffsetDateTime} with the conversion
+ * via Java Time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffsetDateTimesBenchmark {
+
+    @Param({"2018-07-20T13:45:30Z",
+            "2018-07-20T13:45:30.123+03:00",
+            "2018-07-20T13:45:30.123456789-05:30"})
+    private String value;
+
+    private OffsetDateTime dateTime;
+    private OffsetDateTime other;
+
+    @Setup
+    public void setUp() {
+        dateTime = OffsetDateTimes.parse(value);
+        other = OffsetDateTimes.parse("2018-07-20T13:45:30.123+01:00");
+    }
+
+    @Benchmark
+    public OffsetDateTime parse() {
+        return OffsetDateTimes.parse(value);
+    }
+
+    @Benchmark
+    public OffsetDateTime parseWithJavaTime() {
+        return OffsetDateTimes.of(java.time.OffsetDateTime.parse(value));
+    }
+
+    @Benchmark
+    public String format() {
+        return OffsetDateTimes.toString(dateTime);
+    }
+
+    @Benchmark
+    public String formatWithJavaTime() {
+        return OffsetDateTimes.toJavaTime(dateTime)
+                              .toString();
+    }
+
+    @Benchmark
+    public int compare() {
+        return OffsetDateTimes.comparator()
+                              .compare(dateTime, other);
+    }
+
+    @Benchmark
+    public int compareWithJavaTime() {
+        return OffsetDateTimes.toJavaTime(dateTime)
+                              .compareTo(OffsetDateTimes.toJavaTime(other));
+    }
+}
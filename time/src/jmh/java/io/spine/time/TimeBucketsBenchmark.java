@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.time.TimeBuckets.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bucketing by {@link TimeBuckets} with truncation of Java Time values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeBucketsBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final long FIRST_NANO = 1_500_000_000_000_000_000L;
+    private static final long STEP_NANOS = 1_234_567_890L;
+
+    @Param({"HOUR", "MONTH"})
+    private Unit unit;
+
+    private final ZoneOffset zoneOffset = ZoneOffsets.ofHours(2);
+    private final java.time.ZoneOffset javaOffset = java.time.ZoneOffset.ofHours(2);
+    private final Timestamp time = Timestamps.fromNanos(FIRST_NANO);
+
+    private long[] epochNanos;
+
+    @Setup
+    public void setUp() {
+        epochNanos = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochNanos[i] = FIRST_NANO + i * STEP_NANOS;
+        }
+    }
+
+    @Benchmark
+    public long bucketOf() {
+        return TimeBuckets.bucketOf(time, zoneOffset, unit);
+    }
+
+    @Benchmark
+    public Timestamp truncate() {
+        return TimeBuckets.truncate(time, zoneOffset, unit);
+    }
+
+    @Benchmark
+    public long javaTimeTruncate() {
+        java.time.OffsetDateTime value = Instant.ofEpochSecond(time.getSeconds(), time.getNanos())
+                                                .atOffset(javaOffset);
+        java.time.OffsetDateTime result = unit == Unit.HOUR
+                                          ? value.truncatedTo(ChronoUnit.HOURS)
+                                          : value.truncatedTo(ChronoUnit.DAYS)
+                                                 .withDayOfMonth(1);
+        return result.toEpochSecond();
+    }
+
+    @Benchmark
+    public long[] bucketsOf() {
+        return TimeBuckets.bucketsOf(epochNanos, zoneOffset, unit);
+    }
+
+    @Benchmark
+    public long[] bucketsOneByOne() {
+        long[] result = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = TimeBuckets.bucketOf(epochNanos[i], zoneOffset, unit);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares range queries over a {@link TimestampColumn} with a scan of a list of
+ * {@code Timestamp}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampColumnBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final long FIRST_SECOND = 1_500_000_000L;
+
+    private final Timestamp start = Timestamps.fromSeconds(FIRST_SECOND + SIZE / 4);
+    private final Timestamp finish = Timestamps.fromSeconds(FIRST_SECOND + SIZE / 2);
+
+    private List<Timestamp> timestamps;
+    private TimestampColumn column;
+
+    @Setup
+    public void setUp() {
+        timestamps = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            timestamps.add(Timestamps.fromSeconds(FIRST_SECOND + i));
+        }
+        column = TimestampColumn.of(timestamps)
+                                .sort();
+    }
+
+    @Benchmark
+    public int columnBetween() {
+        return column.between(start, finish)
+                     .size();
+    }
+
+    @Benchmark
+    public int listBetween() {
+        int count = 0;
+        for (Timestamp timestamp : timestamps) {
+            if (Timestamps2.isBetween(timestamp, start, finish)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public TimestampColumn build() {
+        return TimestampColumn.of(timestamps);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the radix sort of {@link Timestamps2} with sorting by
+ * {@link Timestamps#comparator()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampSortBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Timestamp> timestamps;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        timestamps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Timestamp timestamp = Timestamp
+                    .newBuilder()
+                    .setSeconds(1_500_000_000L + random.nextInt(30 * 24 * 3600))
+                    .setNanos(random.nextInt(1_000_000_000))
+                    .build();
+            timestamps.add(timestamp);
+        }
+    }
+
+    @Benchmark
+    public List<Timestamp> comparator() {
+        List<Timestamp> result = new ArrayList<>(timestamps);
+        result.sort(Timestamps.comparator());
+        return result;
+    }
+
+    @Benchmark
+    public int[] radixPermutation() {
+        return Timestamps2.sortedPermutation(timestamps);
+    }
+
+    @Benchmark
+    public int[] parallelRadixPermutation() {
+        return Timestamps2.parallelSortedPermutation(timestamps);
+    }
+
+    @Benchmark
+    public List<Timestamp> radixSorted() {
+        return Timestamps2.sorted(timestamps);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares obtaining offsets and date/time values in a time zone by {@link ZoneIds} with
+ * Java Time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneIdsBenchmark {
+
+    private final Timestamp time = Timestamps.fromNanos(1_532_095_200_123_456_789L);
+
+    private String[] ids;
+    private ZoneId[] zoneIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ids = java.time.ZoneId.getAvailableZoneIds()
+                              .stream()
+                              .sorted()
+                              .limit(400)
+                              .toArray(String[]::new);
+        zoneIds = new ZoneId[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            zoneIds[i] = ZoneIds.of(ids[i]);
+        }
+    }
+
+    private int nextIndex() {
+        int result = next;
+        next = result + 1 == ids.length ? 0 : result + 1;
+        return result;
+    }
+
+    @Benchmark
+    public ZoneOffset offsetAt() {
+        return ZoneIds.offsetAt(zoneIds[nextIndex()], time);
+    }
+
+    @Benchmark
+    public java.time.ZoneOffset javaTimeOffsetAt() {
+        return java.time.ZoneId.of(ids[nextIndex()])
+                               .getRules()
+                               .getOffset(Instant.ofEpochSecond(time.getSeconds()));
+    }
+
+    @Benchmark
+    public OffsetDateTime dateTimeAt() {
+        return OffsetDateTimes.dateTimeAt(time, zoneIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public OffsetDateTime javaTimeDateTimeAt() {
+        java.time.OffsetDateTime result =
+                Instant.ofEpochSecond(time.getSeconds(), time.getNanos())
+                       .atZone(java.time.ZoneId.of(ids[nextIndex()]))
+                       .toOffsetDateTime();
+        return OffsetDateTimes.of(result);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the factory methods of {@link ZoneOffsets}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneOffsetsBenchmark {
+
+    private final java.time.ZoneOffset javaTimeOffset = java.time.ZoneOffset.ofHours(-5);
+
+    @Benchmark
+    public ZoneOffset ofSeconds() {
+        return ZoneOffsets.ofSeconds(19_800);
+    }
+
+    @Benchmark
+    public ZoneOffset ofSecondsNotQuarterHour() {
+        return ZoneOffsets.ofSeconds(19_830);
+    }
+
+    @Benchmark
+    public ZoneOffset ofHours() {
+        return ZoneOffsets.ofHours(3);
+    }
+
+    @Benchmark
+    public ZoneOffset ofHoursMinutes() {
+        return ZoneOffsets.ofHoursMinutes(5, 45);
+    }
+
+    @Benchmark
+    public ZoneOffset ofJavaTime() {
+        return ZoneOffsets.of(javaTimeOffset);
+    }
+
+    @Benchmark
+    public ZoneOffset parse() {
+        return ZoneOffsets.parse("+05:30");
+    }
+
+    @Benchmark
+    public ZoneOffset parseWithoutSeparator() {
+        return ZoneOffsets.parse("+0530");
+    }
+
+    @Benchmark
+    public ZoneOffset getDefault() {
+        return ZoneOffsets.getDefault();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.string;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.string.Stringifier;
+import io.spine.time.LocalDate;
+import io.spine.time.LocalDates;
+import io.spine.time.LocalTime;
+import io.spine.time.LocalTimes;
+import io.spine.time.OffsetDateTime;
+import io.spine.time.OffsetDateTimes;
+import io.spine.time.OffsetTime;
+import io.spine.time.OffsetTimes;
+import io.spine.time.ZoneOffset;
+import io.spine.time.ZoneOffsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion to string and back for each of the {@link TimeStringifiers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeStringifiersBenchmark {
+
+    private final Stringifier<Duration> durations = TimeStringifiers.forDuration();
+    private final Stringifier<Timestamp> timestamps = TimeStringifiers.forTimestamp();
+    private final Stringifier<Timestamp> webSafeTimestamps =
+            TimeStringifiers.forTimestampWebSafe();
+    private final Stringifier<ZoneOffset> zoneOffsets = TimeStringifiers.forZoneOffset();
+    private final Stringifier<LocalDate> localDates = TimeStringifiers.forLocalDate();
+    private final Stringifier<LocalTime> localTimes = TimeStringifiers.forLocalTime();
+    private final Stringifier<OffsetTime> offsetTimes = TimeStringifiers.forOffsetTime();
+    private final Stringifier<OffsetDateTime> offsetDateTimes =
+            TimeStringifiers.forOffsetDateTime();
+
+    private Duration duration;
+    private String durationString;
+
+    private Timestamp timestamp;
+    private String timestampString;
+    private String webSafeTimestampString;
+
+    private ZoneOffset zoneOffset;
+    private String zoneOffsetString;
+
+    private LocalDate localDate;
+    private String localDateString;
+
+    private LocalTime localTime;
+    private String localTimeString;
+
+    private OffsetTime offsetTime;
+    private String offsetTimeString;
+
+    private OffsetDateTime offsetDateTime;
+    private String offsetDateTimeString;
+
+    @Setup
+    public void setUp() throws ParseException {
+        duration = Durations.parse("3723.000000456s");
+        durationString = durations.convert(duration);
+
+        timestamp = Timestamps.parse("2018-07-20T13:45:30.123456789Z");
+        timestampString = timestamps.convert(timestamp);
+        webSafeTimestampString = webSafeTimestamps.convert(timestamp);
+
+        zoneOffset = ZoneOffsets.ofHoursMinutes(5, 30);
+        zoneOffsetString = zoneOffsets.convert(zoneOffset);
+
+        localDate = LocalDates.parse("2018-07-20");
+        localDateString = localDates.convert(localDate);
+
+        localTime = LocalTimes.parse("13:45:30.123");
+        localTimeString = localTimes.convert(localTime);
+
+        offsetTime = OffsetTimes.of(localTime, zoneOffset);
+        offsetTimeString = offsetTimes.convert(offsetTime);
+
+        offsetDateTime = OffsetDateTimes.of(localDate, localTime, zoneOffset);
+        offsetDateTimeString = offsetDateTimes.convert(offsetDateTime);
+    }
+
+    @Benchmark
+    public String durationToString() {
+        return durations.convert(duration);
+    }
+
+    @Benchmark
+    public Duration durationFromString() {
+        return durations.reverse()
+                        .convert(durationString);
+    }
+
+    @Benchmark
+    public String timestampToString() {
+        return timestamps.convert(timestamp);
+    }
+
+    @Benchmark
+    public Timestamp timestampFromString() {
+        return timestamps.reverse()
+                         .convert(timestampString);
+    }
+
+    @Benchmark
+    public String webSafeTimestampToString() {
+        return webSafeTimestamps.convert(timestamp);
+    }
+
+    @Benchmark
+    public Timestamp webSafeTimestampFromString() {
+        return webSafeTimestamps.reverse()
+                                .convert(webSafeTimestampString);
+    }
+
+    @Benchmark
+    public String zoneOffsetToString() {
+        return zoneOffsets.convert(zoneOffset);
+    }
+
+    @Benchmark
+    public ZoneOffset zoneOffsetFromString() {
+        return zoneOffsets.reverse()
+                          .convert(zoneOffsetString);
+    }
+
+    @Benchmark
+    public String localDateToString() {
+        return localDates.convert(localDate);
+    }
+
+    @Benchmark
+    public LocalDate localDateFromString() {
+        return localDates.reverse()
+                         .convert(localDateString);
+    }
+
+    @Benchmark
+    public String localTimeToString() {
+        return localTimes.convert(localTime);
+    }
+
+    @Benchmark
+    public LocalTime localTimeFromString() {
+        return localTimes.reverse()
+                         .convert(localTimeString);
+    }
+
+    @Benchmark
+    public String offsetTimeToString() {
+        return offsetTimes.convert(offsetTime);
+    }
+
+    @Benchmark
+    public OffsetTime offsetTimeFromString() {
+        return offsetTimes.reverse()
+                          .convert(offsetTimeString);
+    }
+
+    @Benchmark
+    public String offsetDateTimeToString() {
+        return offsetDateTimes.convert(offsetDateTime);
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTimeFromString() {
+        return offsetDateTimes.reverse()
+                              .convert(offsetDateTimeString);
+    }
+}
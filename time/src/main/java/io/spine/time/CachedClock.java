@@ -0,0 +1,291 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.Timestamp;
+import io.spine.annotation.Experimental;
+import io.spine.base.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A clock which serves the current time from a snapshot refreshed by a background thread.
+ *
+ * <p>Obtaining the current time from the system clock and building the date and time messages
+ * at each call is relatively expensive for callers which need the current time hundreds
+ * of thousands of times per second, such as logging. A {@code CachedClock} does this work once
+ * per tick and publishes the results through a {@code volatile} reference, so that obtaining
+ * the current time becomes a memory read. The price is precision: the values served by
+ * the clock lag behind the system clock by up to one tick.
+ *
+ * <p>The clock is a {@link Time.Provider}. Once {@linkplain #install(long, TimeUnit)
+ * installed}, it serves {@link Time#getCurrentTime()} as well as the {@code now()} methods
+ * of {@link LocalDates}, {@link LocalTimes}, {@link OffsetTimes}, and
+ * {@link OffsetDateTimes}. {@linkplain #close() Closing} the clock stops the background
+ * thread and, if the clock is installed, restores the system time provider.
+ *
+ * <p>Installing a clock takes over the provider of {@link Time} completely: a custom provider
+ * set before the installation is replaced, and is not restored when the clock is closed.
+ *
+ * <p>The local values are obtained at the {@linkplain ZoneOffsets#getDefault() default}
+ * offset of the Java virtual machine.
+ *
+ * <p>If a refresh fails, the clock keeps serving the values of the last successful refresh
+ * and retries on the next tick.
+ */
+@Experimental
+public final class CachedClock implements Time.Provider, AutoCloseable {
+
+    private static final String THREAD_NAME = "CachedClock";
+
+    /** The clock which serves the {@code now()} methods, or {@code null} if none. */
+    private static volatile @Nullable CachedClock installed = null;
+
+    private final Supplier<Instant> source;
+    private final ScheduledExecutorService executor;
+    private volatile Snapshot snapshot;
+
+    /** Tells if the last refresh failed, so that a series of failures is logged once. */
+    private boolean failing = false;
+
+    private CachedClock(Supplier<Instant> source) {
+        this.source = source;
+        this.snapshot = Snapshot.take(source.get());
+        this.executor = Executors.newSingleThreadScheduledExecutor(CachedClock::newThread);
+    }
+
+    /**
+     * Starts a new clock which is refreshed with the passed tick.
+     *
+     * <p>The started clock does not serve the {@code now()} methods until it is
+     * {@linkplain #install(long, TimeUnit) installed}. It can still be used as
+     * a {@link Time.Provider} directly.
+     *
+     * @param tick the period between refreshes, must be positive
+     * @param unit the unit of the tick, e.g. {@link TimeUnit#MICROSECONDS MICROSECONDS}
+     *             or {@link TimeUnit#MILLISECONDS MILLISECONDS}
+     */
+    public static CachedClock start(long tick, TimeUnit unit) {
+        return start(tick, unit, Instant::now);
+    }
+
+    /**
+     * Starts a new clock which obtains the current time from the passed source.
+     */
+    @VisibleForTesting
+    static CachedClock start(long tick, TimeUnit unit, Supplier<Instant> source) {
+        checkArgument(tick > 0, "The tick must be positive.");
+        checkNotNull(unit);
+        checkNotNull(source);
+        CachedClock clock = new CachedClock(source);
+        clock.executor.scheduleAtFixedRate(clock::tick, tick, tick, unit);
+        return clock;
+    }
+
+    /**
+     * Starts a new clock and installs it as the source of the current time.
+     *
+     * <p>The clock becomes the {@linkplain Time#setProvider(Time.Provider) provider} of
+     * {@link Time#getCurrentTime()} and serves the {@code now()} methods of the date and time
+     * utilities. A previously installed clock is replaced and {@linkplain #close() closed}.
+     * A custom provider set before is replaced as well, and is not restored when the clock
+     * is closed.
+     *
+     * @see #start(long, TimeUnit)
+     */
+    public static CachedClock install(long tick, TimeUnit unit) {
+        CachedClock clock = start(tick, unit);
+        synchronized (CachedClock.class) {
+            CachedClock replaced = installed;
+            if (replaced != null) {
+                replaced.executor.shutdownNow();
+            }
+            installed = clock;
+            Time.setProvider(clock);
+        }
+        return clock;
+    }
+
+    /**
+     * Obtains the installed clock.
+     *
+     * @return the installed clock or {@code null} if no clock is installed
+     */
+    static @Nullable CachedClock installed() {
+        return installed;
+    }
+
+    /**
+     * Obtains the point in time of the last refresh.
+     */
+    @Override
+    public Timestamp getCurrentTime() {
+        return snapshot.timestamp;
+    }
+
+    /**
+     * Obtains the local date at the default offset as of the last refresh.
+     */
+    public LocalDate localDate() {
+        return snapshot.date;
+    }
+
+    /**
+     * Obtains the local time at the default offset as of the last refresh.
+     */
+    public LocalTime localTime() {
+        return snapshot.time;
+    }
+
+    /**
+     * Obtains the default offset as of the last refresh.
+     */
+    public ZoneOffset zoneOffset() {
+        return snapshot.offset;
+    }
+
+    /**
+     * Obtains the date and time at the default offset as of the last refresh.
+     */
+    public OffsetDateTime offsetDateTime() {
+        return snapshot.dateTime;
+    }
+
+    /**
+     * Obtains the local time at the passed offset as of the last refresh.
+     */
+    LocalTime localTimeAt(ZoneOffset zoneOffset) {
+        Snapshot current = snapshot;
+        if (current.offset.equals(zoneOffset)) {
+            return current.time;
+        }
+        return LocalTimes.timeAt(current.timestamp, zoneOffset);
+    }
+
+    /**
+     * Stops refreshing the clock.
+     *
+     * <p>If the clock is installed, the {@linkplain Time#systemTime() system} time provider is
+     * restored, even if another provider was set before the installation, and
+     * the {@code now()} methods no longer use the clock. After closing, the clock keeps serving
+     * the values of the last refresh.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        synchronized (CachedClock.class) {
+            if (installed == this) {
+                installed = null;
+                Time.resetProvider();
+            }
+        }
+    }
+
+    /**
+     * Tells if the clock is no longer refreshed.
+     */
+    public boolean isClosed() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Obtains the current time and publishes a new snapshot.
+     */
+    @VisibleForTesting
+    void refresh() {
+        snapshot = Snapshot.take(source.get());
+    }
+
+    /**
+     * Refreshes the clock on schedule.
+     *
+     * <p>An exception thrown by a scheduled task cancels all its subsequent runs, so the failures
+     * are caught here. The last successful snapshot is kept until the next tick.
+     */
+    private void tick() {
+        try {
+            refresh();
+            failing = false;
+        } catch (RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                log().warn("Unable to refresh the clock. Serving the time of the last refresh.",
+                           e);
+            }
+        }
+    }
+
+    private static Thread newThread(Runnable task) {
+        Thread thread = new Thread(task, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The current time and its local representations obtained at once.
+     */
+    private static final class Snapshot {
+
+        private final Timestamp timestamp;
+        private final ZoneOffset offset;
+        private final LocalDate date;
+        private final LocalTime time;
+        private final OffsetDateTime dateTime;
+
+        private Snapshot(Timestamp timestamp, ZoneOffset offset) {
+            this.timestamp = timestamp;
+            this.offset = offset;
+            this.date = LocalDates.dateAt(timestamp, offset);
+            this.time = LocalTimes.timeAt(timestamp, offset);
+            this.dateTime = OffsetDateTimes.of(date, time, offset);
+        }
+
+        private static Snapshot take(Instant now) {
+            Timestamp timestamp = Timestamp
+                    .newBuilder()
+                    .setSeconds(now.getEpochSecond())
+                    .setNanos(now.getNano())
+                    .build();
+            return new Snapshot(timestamp, ZoneOffsets.getDefault());
+        }
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(CachedClock.class);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+/**
+ * Precomputed calendar data for the years which are used most often.
+ *
+ * <p>For each year from {@link #FIRST_YEAR} to {@link #LAST_YEAR} the table holds the leap
+ * year flag and the epoch day of January 1. The lengths of the months and the number of days
+ * before each month are held for both leap and non-leap years.
+ *
+ * <p>Callers check if a year is {@linkplain #covers(int) covered} by the table and fall back
+ * to calendar arithmetic otherwise.
+ */
+final class CalendarTable {
+
+    /** The first year covered by the table. */
+    static final int FIRST_YEAR = 1900;
+
+    /** The last year covered by the table. */
+    static final int LAST_YEAR = 2200;
+
+    private static final int YEAR_COUNT = LAST_YEAR - FIRST_YEAR + 1;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_DAYS_PER_YEAR = 366;
+    private static final int FEBRUARY_MIN = 28;
+
+    /** The lengths of the months by their numbers, for non-leap and leap years. */
+    private static final int[][] DAYS_IN_MONTH = new int[2][MONTHS_PER_YEAR + 1];
+
+    /** The number of days before the months by their numbers, for non-leap and leap years. */
+    private static final int[][] DAYS_BEFORE_MONTH = new int[2][MONTHS_PER_YEAR + 2];
+
+    /** The months by the zero-based days of the year, for non-leap and leap years. */
+    private static final byte[][] MONTH_OF_DAY = new byte[2][MAX_DAYS_PER_YEAR];
+
+    private static final boolean[] LEAP_YEARS = new boolean[YEAR_COUNT];
+
+    /** The epoch days of January 1 of the covered years and of the year after the last one. */
+    private static final int[] FIRST_EPOCH_DAYS = new int[YEAR_COUNT + 1];
+
+    static {
+        for (int leap = 0; leap < 2; leap++) {
+            for (int month = 0; month <= MONTHS_PER_YEAR; month++) {
+                // Keeps the values of the arithmetic used before the table, including month 0.
+                int days = FEBRUARY_MIN + ((0x3bbeecc >> (month * 2)) & 3);
+                DAYS_IN_MONTH[leap][month] = (month == 2) ? FEBRUARY_MIN + leap : days;
+            }
+            for (int month = 1; month <= MONTHS_PER_YEAR; month++) {
+                int before = DAYS_BEFORE_MONTH[leap][month];
+                int length = DAYS_IN_MONTH[leap][month];
+                DAYS_BEFORE_MONTH[leap][month + 1] = before + length;
+                for (int day = before; day < before + length; day++) {
+                    MONTH_OF_DAY[leap][day] = (byte) month;
+                }
+            }
+        }
+        for (int i = 0; i <= YEAR_COUNT; i++) {
+            int year = FIRST_YEAR + i;
+            if (i < YEAR_COUNT) {
+                LEAP_YEARS[i] = Years.computeLeapYear(year);
+            }
+            FIRST_EPOCH_DAYS[i] = (int) PackedLocalDate.computeEpochDay(year, 1, 1);
+        }
+    }
+
+    /** Prevent instantiation of this utility class. */
+    private CalendarTable() {
+    }
+
+    /**
+     * Tells if the passed year is covered by the table.
+     */
+    static boolean covers(int year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    /**
+     * Tells if the passed epoch day belongs to a year covered by the table.
+     */
+    static boolean coversEpochDay(long epochDay) {
+        return epochDay >= FIRST_EPOCH_DAYS[0] && epochDay < FIRST_EPOCH_DAYS[YEAR_COUNT];
+    }
+
+    /**
+     * Tells if the covered year is a leap one.
+     */
+    static boolean isLeapYear(int year) {
+        return LEAP_YEARS[year - FIRST_YEAR];
+    }
+
+    /**
+     * Obtains the number of days in the month with the passed number.
+     */
+    static int daysInMonth(boolean leapYear, int month) {
+        return DAYS_IN_MONTH[leapYear ? 1 : 0][month];
+    }
+
+    /**
+     * Obtains the number of days in the year before the month with the passed number.
+     */
+    static int daysBeforeMonth(boolean leapYear, int month) {
+        return DAYS_BEFORE_MONTH[leapYear ? 1 : 0][month];
+    }
+
+    /**
+     * Obtains the number of days since {@code 1970-01-01} for a date in a covered year.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        int index = year - FIRST_YEAR;
+        int leap = LEAP_YEARS[index] ? 1 : 0;
+        return FIRST_EPOCH_DAYS[index] + DAYS_BEFORE_MONTH[leap][month] + day - 1;
+    }
+
+    /**
+     * Packs the date with the passed epoch day {@linkplain #coversEpochDay(long) covered}
+     * by the table.
+     *
+     * @see PackedLocalDate
+     */
+    static int packEpochDay(long epochDay) {
+        int days = (int) epochDay;
+        // Estimate the year by the average length of a year and correct the estimate,
+        // which is at most one year off.
+        int index = (int) ((long) (days - FIRST_EPOCH_DAYS[0]) * 400 / 146_097);
+        if (FIRST_EPOCH_DAYS[index + 1] <= days) {
+            index++;
+        } else if (FIRST_EPOCH_DAYS[index] > days) {
+            index--;
+        }
+        int dayOfYear = days - FIRST_EPOCH_DAYS[index];
+        int leap = LEAP_YEARS[index] ? 1 : 0;
+        int month = MONTH_OF_DAY[leap][dayOfYear];
+        int day = dayOfYear - DAYS_BEFORE_MONTH[leap][month] + 1;
+        return PackedLocalDate.packValid(FIRST_YEAR + index, month, day);
+    }
+}
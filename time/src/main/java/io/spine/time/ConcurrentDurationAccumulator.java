@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A thread-safe accumulator of {@link Duration} values.
+ *
+ * <p>Similarly to {@link java.util.concurrent.atomic.LongAdder LongAdder}, the values are
+ * spread over several cells selected by the calling thread, so that concurrent producers rarely
+ * contend for the same cell. The results are computed by merging the cells on demand.
+ *
+ * <p>A cell holds an {@linkplain DurationAccumulator accumulator} which is never modified after
+ * being published. Adding a value replaces it with an updated copy by compare-and-set, so
+ * the producers do not take locks. The cells are padded so that the cells updated by different
+ * threads do not share cache lines.
+ *
+ * <p>The results obtained while values are being added reflect some, but not necessarily all,
+ * of the concurrent updates.
+ */
+public final class ConcurrentDurationAccumulator {
+
+    private final Cell[] cells;
+    private final int mask;
+
+    /**
+     * Creates a new instance with the number of cells suitable for the number of available
+     * processors.
+     */
+    public ConcurrentDurationAccumulator() {
+        int processors = Runtime.getRuntime()
+                                .availableProcessors();
+        int cellCount = Integer.highestOneBit(Math.max(processors * 2 - 1, 1)) << 1;
+        this.cells = new Cell[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = new Cell();
+        }
+        this.mask = cellCount - 1;
+    }
+
+    /**
+     * Adds the passed duration.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum of the cell overflows
+     */
+    @CanIgnoreReturnValue
+    public ConcurrentDurationAccumulator add(Duration duration) {
+        checkNotNull(duration);
+        cell().update(state -> state.add(duration));
+        return this;
+    }
+
+    /**
+     * Adds the duration with the passed number of nanoseconds.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum of the cell overflows
+     */
+    @CanIgnoreReturnValue
+    public ConcurrentDurationAccumulator addNanos(long durationNanos) {
+        cell().update(state -> state.addNanos(durationNanos));
+        return this;
+    }
+
+    /**
+     * Subtracts the passed duration from the sum.
+     *
+     * @return this instance
+     * @see DurationAccumulator#subtract(Duration)
+     */
+    @CanIgnoreReturnValue
+    public ConcurrentDurationAccumulator subtract(Duration duration) {
+        checkNotNull(duration);
+        cell().update(state -> state.subtract(duration));
+        return this;
+    }
+
+    /**
+     * Clears all the accumulated values.
+     *
+     * <p>Values added concurrently with this call may be lost.
+     */
+    public void reset() {
+        for (Cell cell : cells) {
+            cell.state = new DurationAccumulator();
+        }
+    }
+
+    /**
+     * Obtains the values accumulated so far merged into a new non-thread-safe accumulator.
+     *
+     * <p>Use the snapshot for obtaining several results consistent with each other.
+     */
+    public DurationAccumulator snapshot() {
+        DurationAccumulator result = new DurationAccumulator();
+        for (Cell cell : cells) {
+            result.merge(cell.state);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the number of added durations.
+     */
+    public long count() {
+        return snapshot().count();
+    }
+
+    /**
+     * Obtains the sum of the accumulated durations.
+     *
+     * @see DurationAccumulator#sum()
+     */
+    public Duration sum() {
+        return snapshot().sum();
+    }
+
+    /**
+     * Obtains the shortest of the added durations.
+     *
+     * @see DurationAccumulator#min()
+     */
+    public Duration min() {
+        return snapshot().min();
+    }
+
+    /**
+     * Obtains the longest of the added durations.
+     *
+     * @see DurationAccumulator#max()
+     */
+    public Duration max() {
+        return snapshot().max();
+    }
+
+    /**
+     * Obtains the arithmetic mean of the accumulated durations.
+     *
+     * @see DurationAccumulator#mean()
+     */
+    public Duration mean() {
+        return snapshot().mean();
+    }
+
+    private Cell cell() {
+        long threadId = Thread.currentThread()
+                              .getId();
+        // Spread the bits of sequential thread IDs over the cells.
+        int hash = (int) (threadId * 0x9E3779B97F4A7C15L >>> 32);
+        return cells[hash & mask];
+    }
+
+    /**
+     * The fields which keep the state of a {@link Cell} off the cache line of the objects
+     * allocated before it.
+     */
+    @SuppressWarnings("unused")
+    private static class CellPadding {
+
+        private long p1;
+        private long p2;
+        private long p3;
+        private long p4;
+        private long p5;
+        private long p6;
+        private long p7;
+    }
+
+    /**
+     * The accumulated state of a {@link Cell}.
+     */
+    private static class CellState extends CellPadding {
+
+        private static final AtomicReferenceFieldUpdater<CellState, DurationAccumulator> STATE =
+                AtomicReferenceFieldUpdater.newUpdater(CellState.class,
+                                                       DurationAccumulator.class,
+                                                       "state");
+
+        volatile DurationAccumulator state = new DurationAccumulator();
+
+        /**
+         * Replaces the state with a copy modified by the passed operation.
+         *
+         * <p>The operation is repeated on a fresh copy if another thread has replaced
+         * the state concurrently.
+         */
+        void update(Consumer<DurationAccumulator> operation) {
+            DurationAccumulator current;
+            DurationAccumulator updated;
+            do {
+                current = state;
+                updated = current.copy();
+                operation.accept(updated);
+            } while (!STATE.compareAndSet(this, current, updated));
+        }
+    }
+
+    /**
+     * A cell of the accumulator padded on both sides.
+     */
+    @SuppressWarnings("unused")
+    private static final class Cell extends CellState {
+
+        private long q1;
+        private long q2;
+        private long q3;
+        private long q4;
+        private long q5;
+        private long q6;
+        private long q7;
+    }
+}
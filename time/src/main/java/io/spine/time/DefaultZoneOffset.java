@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import io.spine.time.ZoneOffsets.DefaultChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.spine.time.SiTime.MILLIS_PER_SECOND;
+
+/**
+ * The cache of the offset of the default time zone of the Java virtual machine.
+ *
+ * <p>The cached offset remains valid while the default time zone stays the same and the current
+ * time is within the period between the transitions of the zone rules, e.g. until the next
+ * daylight saving time change. Checking this takes obtaining the default {@code ZoneId} and,
+ * for zones which have transitions, reading the system clock.
+ *
+ * @see ZoneOffsets#getDefault()
+ */
+final class DefaultZoneOffset {
+
+    private static final List<DefaultChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static volatile @Nullable Entry entry = null;
+
+    /** Prevent instantiation of this utility class. */
+    private DefaultZoneOffset() {
+    }
+
+    /**
+     * Obtains the current offset of the default time zone.
+     */
+    static ZoneOffset get() {
+        ZoneId zone = ZoneId.systemDefault();
+        Entry current = entry;
+        if (current != null && current.zone.equals(zone)) {
+            if (current.isFixed()) {
+                return current.offset;
+            }
+            long now = System.currentTimeMillis();
+            if (current.isValidAt(now)) {
+                return current.offset;
+            }
+        }
+        return update();
+    }
+
+    static void addListener(DefaultChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    static void removeListener(DefaultChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Computes the current offset and notifies the listeners if it differs from
+     * the cached one.
+     *
+     * <p>The listeners are notified after the lock is released, so that they do not block
+     * other callers of {@link #get()}.
+     */
+    private static ZoneOffset update() {
+        Entry previous;
+        Entry updated;
+        synchronized (DefaultZoneOffset.class) {
+            previous = entry;
+            updated = Entry.compute(ZoneId.systemDefault(), System.currentTimeMillis());
+            entry = updated;
+        }
+        ZoneOffset offset = updated.offset;
+        if (previous != null && !previous.offset.equals(offset)) {
+            notifyListeners(previous.offset, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Notifies each listener of the change.
+     *
+     * <p>An exception thrown by a listener is logged and does not prevent notifying
+     * the remaining listeners.
+     */
+    private static void notifyListeners(ZoneOffset previous, ZoneOffset current) {
+        for (DefaultChangeListener listener : listeners) {
+            try {
+                listener.onChange(previous, current);
+            } catch (RuntimeException e) {
+                log().error("The listener of the default zone offset change failed.", e);
+            }
+        }
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(DefaultZoneOffset.class);
+    }
+
+    /**
+     * The offset of a time zone valid within a period between two transitions.
+     */
+    private static final class Entry {
+
+        private final ZoneId zone;
+        private final ZoneOffset offset;
+
+        /** The start of the period in epoch milliseconds, inclusive. */
+        private final long validFrom;
+
+        /** The end of the period in epoch milliseconds, exclusive. */
+        private final long validUntil;
+
+        private Entry(ZoneId zone, ZoneOffset offset, long validFrom, long validUntil) {
+            this.zone = zone;
+            this.offset = offset;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+        }
+
+        private static Entry compute(ZoneId zone, long epochMillis) {
+            ZoneRules rules = zone.getRules();
+            Instant now = Instant.ofEpochMilli(epochMillis);
+            ZoneOffset offset = ZoneOffsets.of(rules.getOffset(now));
+            if (rules.isFixedOffset()) {
+                return new Entry(zone, offset, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+            ZoneOffsetTransition previous = rules.previousTransition(now);
+            ZoneOffsetTransition next = rules.nextTransition(now);
+            long validFrom = previous == null
+                             ? Long.MIN_VALUE
+                             : previous.toEpochSecond() * MILLIS_PER_SECOND;
+            long validUntil = next == null
+                              ? Long.MAX_VALUE
+                              : next.toEpochSecond() * MILLIS_PER_SECOND;
+            return new Entry(zone, offset, validFrom, validUntil);
+        }
+
+        private boolean isFixed() {
+            return validFrom == Long.MIN_VALUE && validUntil == Long.MAX_VALUE;
+        }
+
+        private boolean isValidAt(long epochMillis) {
+            return epochMillis >= validFrom && epochMillis < validUntil;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.io.IOException;
+
+/**
+ * Routines for reading and writing decimal digits of fixed-layout date/time strings.
+ *
+ * <p>The methods work directly on character sequences and do not create intermediate objects.
+ */
+final class Digits {
+
+    /** Returned by reading methods if a non-digit character is met. */
+    static final int NOT_A_NUMBER = -1;
+
+    /** Powers of ten from {@code 10^0} to {@code 10^9}. */
+    private static final int[] POWERS_OF_TEN = {
+            1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    /** Prevent instantiation of this utility class. */
+    private Digits() {
+    }
+
+    /**
+     * Reads a non-negative decimal number of the given number of digits.
+     *
+     * @param str   the sequence to read from
+     * @param start the index of the first digit
+     * @param count the number of digits to read, not more than nine
+     * @return the parsed number or {@link #NOT_A_NUMBER} if one of the characters is not
+     *         a decimal digit
+     */
+    static int read(CharSequence str, int start, int count) {
+        int result = 0;
+        for (int i = start, end = start + count; i < end; i++) {
+            int digit = str.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_A_NUMBER;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Appends the passed non-negative value padded with leading zeros to the given width.
+     *
+     * <p>If the value has more digits than the width, only the lowest {@code width} digits
+     * are appended.
+     *
+     * @param value the value to append
+     * @param width the number of digits to append, from one to nine
+     * @param out   the target for the digits
+     */
+    static void append(int value, int width, Appendable out) throws IOException {
+        for (int i = width - 1; i >= 0; i--) {
+            int digit = (value / POWERS_OF_TEN[i]) % 10;
+            out.append((char) ('0' + digit));
+        }
+    }
+
+    /**
+     * Obtains ten raised to the passed power.
+     *
+     * @param exponent the power from zero to nine
+     */
+    static int powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import java.math.BigInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * A mutable accumulator of {@link Duration} values.
+ *
+ * <p>The accumulator keeps the sum, the count, and the shortest and the longest of the added
+ * durations in primitive fields. No messages are created until one of the results
+ * is requested.
+ *
+ * <p>This class is not thread-safe. Use {@link ConcurrentDurationAccumulator} for
+ * accumulating values coming from several threads.
+ */
+public final class DurationAccumulator {
+
+    private static final String NO_VALUES = "No durations were added.";
+
+    /*
+     * Durations are stored as whole seconds and a non-negative nanosecond adjustment
+     * less than one second, similarly to `java.time.Duration`.
+     */
+
+    private long seconds;
+    private int nanos;
+
+    private long count;
+
+    private long minSeconds;
+    private int minNanos;
+
+    private long maxSeconds;
+    private int maxNanos;
+
+    /**
+     * Creates a new empty instance.
+     */
+    public DurationAccumulator() {
+    }
+
+    private DurationAccumulator(DurationAccumulator other) {
+        this.seconds = other.seconds;
+        this.nanos = other.nanos;
+        this.count = other.count;
+        this.minSeconds = other.minSeconds;
+        this.minNanos = other.minNanos;
+        this.maxSeconds = other.maxSeconds;
+        this.maxNanos = other.maxNanos;
+    }
+
+    /**
+     * Creates a new instance with the same accumulated values.
+     */
+    DurationAccumulator copy() {
+        return new DurationAccumulator(this);
+    }
+
+    /**
+     * Adds the passed duration.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum overflows
+     */
+    @CanIgnoreReturnValue
+    public DurationAccumulator add(Duration duration) {
+        checkNotNull(duration);
+        long durationSeconds = duration.getSeconds();
+        int durationNanos = duration.getNanos();
+        if (durationNanos < 0) {
+            durationSeconds--;
+            durationNanos += NANOS_PER_SECOND;
+        }
+        record(durationSeconds, durationNanos);
+        return this;
+    }
+
+    /**
+     * Adds the duration with the passed number of nanoseconds.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum overflows
+     */
+    @CanIgnoreReturnValue
+    public DurationAccumulator addNanos(long durationNanos) {
+        record(floorDiv(durationNanos, NANOS_PER_SECOND),
+               (int) floorMod(durationNanos, NANOS_PER_SECOND));
+        return this;
+    }
+
+    /**
+     * Subtracts the passed duration from the sum.
+     *
+     * <p>The subtracted value does not affect the count, the minimum, and the maximum of
+     * the accumulated durations.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum overflows
+     */
+    @CanIgnoreReturnValue
+    public DurationAccumulator subtract(Duration duration) {
+        checkNotNull(duration);
+        sum(-duration.getSeconds(), -duration.getNanos());
+        return this;
+    }
+
+    /**
+     * Adds all the values accumulated by the passed instance.
+     *
+     * @return this instance
+     * @throws ArithmeticException if the sum overflows
+     */
+    @CanIgnoreReturnValue
+    public DurationAccumulator merge(DurationAccumulator other) {
+        checkNotNull(other);
+        sum(other.seconds, other.nanos);
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            minSeconds = other.minSeconds;
+            minNanos = other.minNanos;
+            maxSeconds = other.maxSeconds;
+            maxNanos = other.maxNanos;
+        } else {
+            updateMin(other.minSeconds, other.minNanos);
+            updateMax(other.maxSeconds, other.maxNanos);
+        }
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Clears all the accumulated values.
+     */
+    public void reset() {
+        seconds = 0;
+        nanos = 0;
+        count = 0;
+        minSeconds = 0;
+        minNanos = 0;
+        maxSeconds = 0;
+        maxNanos = 0;
+    }
+
+    private void record(long durationSeconds, int durationNanos) {
+        sum(durationSeconds, durationNanos);
+        if (count == 0) {
+            minSeconds = durationSeconds;
+            minNanos = durationNanos;
+            maxSeconds = durationSeconds;
+            maxNanos = durationNanos;
+        } else {
+            updateMin(durationSeconds, durationNanos);
+            updateMax(durationSeconds, durationNanos);
+        }
+        count++;
+    }
+
+    private void updateMin(long durationSeconds, int durationNanos) {
+        if (compare(durationSeconds, durationNanos, minSeconds, minNanos) < 0) {
+            minSeconds = durationSeconds;
+            minNanos = durationNanos;
+        }
+    }
+
+    private void updateMax(long durationSeconds, int durationNanos) {
+        if (compare(durationSeconds, durationNanos, maxSeconds, maxNanos) > 0) {
+            maxSeconds = durationSeconds;
+            maxNanos = durationNanos;
+        }
+    }
+
+    private void sum(long durationSeconds, int durationNanos) {
+        long newSeconds = Math.addExact(seconds, durationSeconds);
+        int newNanos = nanos + durationNanos;
+        if (newNanos >= NANOS_PER_SECOND) {
+            newSeconds = Math.incrementExact(newSeconds);
+            newNanos -= NANOS_PER_SECOND;
+        } else if (newNanos < 0) {
+            newSeconds = Math.decrementExact(newSeconds);
+            newNanos += NANOS_PER_SECOND;
+        }
+        seconds = newSeconds;
+        nanos = newNanos;
+    }
+
+    private static int compare(long seconds, int nanos, long otherSeconds, int otherNanos) {
+        int result = Long.compare(seconds, otherSeconds);
+        if (result == 0) {
+            result = Integer.compare(nanos, otherNanos);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the number of added durations.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Obtains the sum of the accumulated durations.
+     *
+     * @return the sum or {@link Durations2#ZERO} if no values were added
+     * @throws IllegalArgumentException if the sum exceeds the range of {@code Duration}
+     */
+    public Duration sum() {
+        return toDuration(seconds, nanos);
+    }
+
+    /**
+     * Obtains the shortest of the added durations.
+     *
+     * @throws IllegalStateException if no values were added
+     */
+    public Duration min() {
+        checkState(count > 0, NO_VALUES);
+        return toDuration(minSeconds, minNanos);
+    }
+
+    /**
+     * Obtains the longest of the added durations.
+     *
+     * @throws IllegalStateException if no values were added
+     */
+    public Duration max() {
+        checkState(count > 0, NO_VALUES);
+        return toDuration(maxSeconds, maxNanos);
+    }
+
+    /**
+     * Obtains the arithmetic mean of the accumulated durations.
+     *
+     * <p>The result is rounded down to a whole nanosecond.
+     *
+     * @throws IllegalStateException if no values were added
+     */
+    public Duration mean() {
+        checkState(count > 0, NO_VALUES);
+        long meanSeconds = floorDiv(seconds, count);
+        long remainder = floorMod(seconds, count);
+        int meanNanos = meanNanos(remainder, nanos, count);
+        return toDuration(meanSeconds, meanNanos);
+    }
+
+    /**
+     * Divides the passed remainder of seconds and the nanos by the count.
+     *
+     * <p>Falls back to {@code BigInteger} arithmetic if the number of nanoseconds does not fit
+     * into a {@code long}.
+     *
+     * @param remainder the non-negative remainder of dividing the seconds by the count
+     * @param nanos     the non-negative nanosecond part of the sum
+     * @param count     the positive number of values
+     * @return the number of nanoseconds of the mean, less than a second
+     */
+    @VisibleForTesting
+    static int meanNanos(long remainder, int nanos, long count) {
+        if (remainder <= (Long.MAX_VALUE - nanos) / NANOS_PER_SECOND) {
+            return (int) ((remainder * NANOS_PER_SECOND + nanos) / count);
+        }
+        return BigInteger.valueOf(remainder)
+                         .multiply(BigInteger.valueOf(NANOS_PER_SECOND))
+                         .add(BigInteger.valueOf(nanos))
+                         .divide(BigInteger.valueOf(count))
+                         .intValue();
+    }
+
+    /**
+     * Creates a {@code Duration} by the seconds and the non-negative nanosecond adjustment.
+     */
+    private static Duration toDuration(long seconds, int nanos) {
+        long durationSeconds = seconds;
+        int durationNanos = nanos;
+        if (seconds < 0 && nanos > 0) {
+            durationSeconds++;
+            durationNanos -= NANOS_PER_SECOND;
+        }
+        Duration result = Duration
+                .newBuilder()
+                .setSeconds(durationSeconds)
+                .setNanos(durationNanos)
+                .build();
+        return Durations.checkValid(result);
+    }
+}
@@ -17,9 +17,8 @@ import static com.google.protobuf.util.Durations.fromNanos;
 import static com.google.protobuf.util.Durations.fromSeconds;
 import static com.google.protobuf.util.Durations.toMillis;
 import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
 import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
-import static io.spine.time.SiTime.MILLIS_PER_SECOND;
-import static io.spine.util.Math.floorDiv;
 import static io.spine.util.Math.safeMultiply;
 
 /**
@@ -32,6 +31,9 @@ import static io.spine.util.Math.safeMultiply;
  *      Duration d = add(hours(2), minutes(30));
  * </pre>
  *
+ * <p>For arithmetic over durations expressed as primitive {@code long} nanoseconds
+ * see {@link NanoDurations}.
+ *
  * @author Alexander Yevsyukov
  * @see com.google.protobuf.util.Durations Durations
  */
@@ -40,6 +42,8 @@ public final class Durations2 {
 
     public static final Duration ZERO = fromMillis(0L);
 
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
     /** Prevent instantiation of this utility class. */
     private Durations2() {
     }
@@ -152,7 +156,9 @@ public final class Durations2 {
      * {@code Duration} instance with hours and minutes.
      */
     public static Duration hoursAndMinutes(long hours, long minutes) {
-        Duration result = add(hours(hours), minutes(minutes));
+        long seconds = Math.addExact(safeMultiply(hours, SECONDS_PER_HOUR),
+                                     safeMultiply(minutes, SECONDS_PER_MINUTE));
+        Duration result = fromSeconds(seconds);
         return result;
     }
 
@@ -168,8 +174,12 @@ public final class Durations2 {
     /** Convert a duration to the number of seconds. */
     public static long toSeconds(Duration duration) {
         checkNotNull(duration);
-        long millis = toMillis(duration);
-        long seconds = floorDiv(millis, MILLIS_PER_SECOND);
+        // Equivalent to `floorDiv(toMillis(duration), MILLIS_PER_SECOND)` without
+        // the intermediate conversion.
+        boolean lessThanWholeSecond = duration.getNanos() / NANOS_PER_MILLI < 0;
+        long seconds = lessThanWholeSecond
+                       ? duration.getSeconds() - 1
+                       : duration.getSeconds();
         return seconds;
     }
 
@@ -181,8 +191,7 @@ public final class Durations2 {
      */
     public static long toMinutes(Duration duration) {
         checkNotNull(duration);
-        long millis = toMillis(duration);
-        long result = (millis / MILLIS_PER_SECOND) / SECONDS_PER_MINUTE;
+        long result = duration.getSeconds() / SECONDS_PER_MINUTE;
         return result;
     }
 
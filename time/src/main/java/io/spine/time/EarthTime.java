@@ -39,6 +39,9 @@ class EarthTime {
     /** The count of hours per day. */
     static final int HOURS_PER_DAY = 24;
 
+    /** The count of seconds per day. */
+    static final int SECONDS_PER_DAY = SECONDS_PER_HOUR * HOURS_PER_DAY;
+
     /** Prevent instantiation of this utility class. */
     private EarthTime() {
     }
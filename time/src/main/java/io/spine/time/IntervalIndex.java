@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.annotation.Experimental;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterables.toArray;
+
+/**
+ * An immutable index over a collection of {@link Interval}s for finding intervals which
+ * contain a point in time or overlap a time range.
+ *
+ * <p>Like in {@link Intervals#contains(Interval, Timestamp)}, the intervals are treated as
+ * closed, i.e. including both the start and the end.
+ *
+ * <p>The index is an interval tree laid out implicitly over the intervals sorted by their
+ * starts. Each node of the tree stores the greatest end of the intervals in its subtree,
+ * which allows to skip subtrees which cannot contain matching intervals. Checking if any
+ * interval contains a point takes {@code O(log n)} time, and finding all {@code k} matching
+ * intervals takes {@code O(log n + k)} time in typical cases.
+ *
+ * <p>Endpoints are stored as primitive numbers of nanoseconds since the Unix epoch. Therefore,
+ * only intervals between the years 1678 and 2261 can be indexed.
+ */
+@Experimental
+public final class IntervalIndex {
+
+    private static final Comparator<Interval> BY_START =
+            (a, b) -> Timestamps.compare(a.getStart(), b.getStart());
+
+    /** The indexed intervals sorted by their starts. */
+    private final Interval[] intervals;
+
+    /** The starts of the intervals in epoch nanoseconds. */
+    private final long[] starts;
+
+    /** The ends of the intervals in epoch nanoseconds. */
+    private final long[] ends;
+
+    /**
+     * The greatest end in the subtree rooted at the node with the corresponding index.
+     *
+     * <p>The subtree of the node includes the intervals within the range the node is
+     * the middle of.
+     */
+    private final long[] maxEnds;
+
+    private IntervalIndex(Interval[] intervals) {
+        Arrays.sort(intervals, BY_START);
+        int size = intervals.length;
+        this.intervals = intervals;
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            Interval interval = intervals[i];
+            starts[i] = Timestamps.toNanos(interval.getStart());
+            ends[i] = Timestamps.toNanos(interval.getEnd());
+        }
+        computeMaxEnds(0, size);
+    }
+
+    /**
+     * Creates an index of the passed intervals.
+     *
+     * @throws ArithmeticException if a start or an end of an interval cannot be expressed
+     *                             in epoch nanoseconds
+     */
+    public static IntervalIndex of(Iterable<Interval> intervals) {
+        checkNotNull(intervals);
+        Interval[] array = toArray(intervals, Interval.class);
+        return new IntervalIndex(array);
+    }
+
+    private long computeMaxEnds(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int middle = (low + high) >>> 1;
+        long result = Math.max(ends[middle],
+                               Math.max(computeMaxEnds(low, middle),
+                                        computeMaxEnds(middle + 1, high)));
+        maxEnds[middle] = result;
+        return result;
+    }
+
+    /**
+     * Obtains the number of indexed intervals.
+     */
+    public int size() {
+        return intervals.length;
+    }
+
+    /**
+     * Tells if at least one of the indexed intervals contains the passed point in time.
+     */
+    public boolean anyContains(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return anyContains(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Tells if at least one of the indexed intervals contains the passed point in time.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     */
+    public boolean anyContains(long epochNanos) {
+        return anyOverlaps(0, intervals.length, epochNanos, epochNanos);
+    }
+
+    /**
+     * Obtains the intervals which contain the passed point in time.
+     *
+     * @return the matching intervals ordered by their starts
+     */
+    public ImmutableList<Interval> containing(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return containing(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Obtains the intervals which contain the passed point in time.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     * @return the matching intervals ordered by their starts
+     */
+    public ImmutableList<Interval> containing(long epochNanos) {
+        return overlapping(epochNanos, epochNanos);
+    }
+
+    /**
+     * Obtains the intervals which have at least one common point with the passed range.
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, inclusive
+     * @return the matching intervals ordered by their starts
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    public ImmutableList<Interval> overlapping(Timestamp from, Timestamp to) {
+        checkNotNull(from);
+        checkNotNull(to);
+        return overlapping(Timestamps.toNanos(from), Timestamps.toNanos(to));
+    }
+
+    /**
+     * Obtains the intervals which have at least one common point with the passed range.
+     *
+     * @param fromNanos the start of the range in epoch nanoseconds, inclusive
+     * @param toNanos   the end of the range in epoch nanoseconds, inclusive
+     * @return the matching intervals ordered by their starts
+     * @throws IllegalArgumentException if {@code fromNanos} is greater than {@code toNanos}
+     */
+    public ImmutableList<Interval> overlapping(long fromNanos, long toNanos) {
+        checkArgument(fromNanos <= toNanos,
+                      "The start of the range must not be after its end.");
+        ImmutableList.Builder<Interval> result = ImmutableList.builder();
+        collectOverlapping(0, intervals.length, fromNanos, toNanos, result);
+        return result.build();
+    }
+
+    private boolean anyOverlaps(int low, int high, long from, long to) {
+        if (low >= high) {
+            return false;
+        }
+        int middle = (low + high) >>> 1;
+        if (maxEnds[middle] < from) {
+            return false;
+        }
+        if (anyOverlaps(low, middle, from, to)) {
+            return true;
+        }
+        if (starts[middle] > to) {
+            // This and all the following intervals start after the range.
+            return false;
+        }
+        return ends[middle] >= from || anyOverlaps(middle + 1, high, from, to);
+    }
+
+    private void collectOverlapping(int low, int high, long from, long to,
+                                    ImmutableList.Builder<Interval> result) {
+        if (low >= high) {
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        if (maxEnds[middle] < from) {
+            return;
+        }
+        collectOverlapping(low, middle, from, to, result);
+        if (starts[middle] > to) {
+            return;
+        }
+        if (ends[middle] >= from) {
+            result.add(intervals[middle]);
+        }
+        collectOverlapping(middle + 1, high, from, to, result);
+    }
+}
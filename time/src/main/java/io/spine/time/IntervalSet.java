@@ -0,0 +1,399 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.annotation.Experimental;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable set of points in time formed by a number of {@link Interval}s.
+ *
+ * <p>The set is kept normalized: it consists of disjoint intervals sorted by their starts.
+ * Intervals which overlap or touch each other are coalesced into one.
+ *
+ * <p>For the purpose of the set operations each interval is treated as half-open, i.e.
+ * including its start and excluding its end. This way the results of the operations are
+ * always representable as intervals, and the {@linkplain #totalDuration() total duration}
+ * of the set is the sum of the durations of the intervals it consists of.
+ *
+ * <p>The bounds of the intervals are stored as primitive numbers of nanoseconds since
+ * the Unix epoch. Therefore, only intervals between the years 1678 and 2261 can be put
+ * into a set.
+ */
+@Experimental
+public final class IntervalSet {
+
+    private static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0], 0);
+
+    /** The starts of the disjoint intervals in epoch nanoseconds, in ascending order. */
+    private final long[] starts;
+
+    /** The ends of the disjoint intervals in epoch nanoseconds, in ascending order. */
+    private final long[] ends;
+
+    /** The number of the disjoint intervals. */
+    private final int size;
+
+    private IntervalSet(long[] starts, long[] ends, int size) {
+        this.starts = starts;
+        this.ends = ends;
+        this.size = size;
+    }
+
+    /**
+     * Obtains the set which contains no points in time.
+     */
+    public static IntervalSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set of points in time covered by at least one of the passed intervals.
+     *
+     * <p>The intervals may be passed in any order and may overlap each other.
+     *
+     * @throws IllegalArgumentException if the end of an interval is before its start
+     * @throws ArithmeticException      if a bound of an interval cannot be expressed in
+     *                                  epoch nanoseconds
+     */
+    public static IntervalSet of(Iterable<Interval> intervals) {
+        checkNotNull(intervals);
+        int capacity = intervals instanceof Collection
+                       ? ((Collection<?>) intervals).size()
+                       : 16;
+        long[] starts = new long[capacity];
+        long[] ends = new long[capacity];
+        int count = 0;
+        for (Interval interval : intervals) {
+            checkNotNull(interval);
+            long start = Timestamps.toNanos(interval.getStart());
+            long end = Timestamps.toNanos(interval.getEnd());
+            checkArgument(start <= end, "The end must not be before the start of the interval.");
+            if (start == end) {
+                continue;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2 + 1);
+                ends = Arrays.copyOf(ends, count * 2 + 1);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+        return coalesce(starts, ends, count);
+    }
+
+    /**
+     * Creates a set of the points in time covered by the passed interval.
+     */
+    public static IntervalSet of(Interval interval) {
+        checkNotNull(interval);
+        return of(ImmutableList.of(interval));
+    }
+
+    /**
+     * Coalesces the intervals with the passed bounds into disjoint ones.
+     *
+     * <p>The starts and the ends are sorted independently of each other. Any point in time
+     * is covered by as many intervals as there are starts not after it minus the number of
+     * ends not after it, so the pairing of the bounds does not matter for the union.
+     */
+    private static IntervalSet coalesce(long[] starts, long[] ends, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(starts, 0, count);
+        Arrays.sort(ends, 0, count);
+        Accumulator result = new Accumulator(count);
+        int depth = 0;
+        long openedAt = 0;
+        int endIndex = 0;
+        for (int startIndex = 0; startIndex < count; startIndex++) {
+            long start = starts[startIndex];
+            while (ends[endIndex] < start) {
+                depth--;
+                if (depth == 0) {
+                    result.add(openedAt, ends[endIndex]);
+                }
+                endIndex++;
+            }
+            if (depth == 0) {
+                openedAt = start;
+            }
+            depth++;
+        }
+        result.add(openedAt, ends[count - 1]);
+        return result.build();
+    }
+
+    /**
+     * Obtains the number of disjoint intervals forming this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells if this set contains no points in time.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtains the disjoint intervals forming this set sorted by their starts.
+     */
+    public ImmutableList<Interval> toList() {
+        ImmutableList.Builder<Interval> result = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+            Interval interval = Interval
+                    .newBuilder()
+                    .setStart(Timestamps.fromNanos(starts[i]))
+                    .setEnd(Timestamps.fromNanos(ends[i]))
+                    .build();
+            result.add(interval);
+        }
+        return result.build();
+    }
+
+    /**
+     * Tells if the passed point in time belongs to this set.
+     */
+    public boolean contains(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return contains(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Tells if the passed point in time belongs to this set.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     */
+    public boolean contains(long epochNanos) {
+        int index = Arrays.binarySearch(starts, 0, size, epochNanos);
+        if (index >= 0) {
+            return true;
+        }
+        int preceding = -index - 2;
+        return preceding >= 0 && epochNanos < ends[preceding];
+    }
+
+    /**
+     * Obtains the total duration of the time covered by this set.
+     *
+     * @throws ArithmeticException if the total duration cannot be expressed in nanoseconds
+     */
+    public Duration totalDuration() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total = Math.addExact(total, ends[i] - starts[i]);
+        }
+        return NanoDurations.toDuration(total);
+    }
+
+    /**
+     * Obtains the set of points in time which belong to this or the other set.
+     *
+     * <p>Both sets are traversed once, so the operation takes linear time.
+     */
+    public IntervalSet union(IntervalSet other) {
+        checkNotNull(other);
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        Accumulator result = new Accumulator(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            boolean takeThis = j == other.size
+                    || (i < size && starts[i] <= other.starts[j]);
+            if (takeThis) {
+                result.add(starts[i], ends[i]);
+                i++;
+            } else {
+                result.add(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the set of points in time which belong to both this and the other set.
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        checkNotNull(other);
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        Accumulator result = new Accumulator(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long start = Math.max(starts[i], other.starts[j]);
+            long end = Math.min(ends[i], other.ends[j]);
+            if (start < end) {
+                result.add(start, end);
+            }
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the set of points in time which belong to this set but not to the other one.
+     */
+    public IntervalSet difference(IntervalSet other) {
+        checkNotNull(other);
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        Accumulator result = new Accumulator(size + other.size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            long current = starts[i];
+            long end = ends[i];
+            while (j < other.size && other.ends[j] <= current) {
+                j++;
+            }
+            while (j < other.size && other.starts[j] < end) {
+                if (other.starts[j] > current) {
+                    result.add(current, other.starts[j]);
+                }
+                current = Math.max(current, other.ends[j]);
+                if (other.ends[j] >= end) {
+                    break;
+                }
+                j++;
+            }
+            if (current < end) {
+                result.add(current, end);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the set of points in time within the passed bounds which do not belong
+     * to this set.
+     */
+    public IntervalSet complement(Interval bounds) {
+        checkNotNull(bounds);
+        return of(bounds).difference(this);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntervalSet)) {
+            return false;
+        }
+        IntervalSet other = (IntervalSet) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (starts[i] != other.starts[i] || ends[i] != other.ends[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(starts[i]);
+            result = 31 * result + Long.hashCode(ends[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        for (int i = 0; i < size; i++) {
+            helper.addValue('[' + Timestamps.toString(Timestamps.fromNanos(starts[i]))
+                                    + ", "
+                                    + Timestamps.toString(Timestamps.fromNanos(ends[i]))
+                                    + ')');
+        }
+        return helper.toString();
+    }
+
+    /**
+     * Collects intervals passed in the order of their starts into a new set.
+     *
+     * <p>An interval which overlaps or touches the last collected one extends it.
+     */
+    private static final class Accumulator {
+
+        private long[] starts;
+        private long[] ends;
+        private int size;
+
+        private Accumulator(int expectedSize) {
+            this.starts = new long[expectedSize];
+            this.ends = new long[expectedSize];
+        }
+
+        private void add(long start, long end) {
+            if (size > 0 && start <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], end);
+                return;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2 + 1);
+                ends = Arrays.copyOf(ends, size * 2 + 1);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+        }
+
+        private IntervalSet build() {
+            return size == 0
+                   ? EMPTY
+                   : new IntervalSet(starts, ends, size);
+        }
+    }
+}
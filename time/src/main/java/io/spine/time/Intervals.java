@@ -20,14 +20,20 @@
 
 package io.spine.time;
 
+import com.google.common.collect.Range;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import io.spine.annotation.Experimental;
 
+import java.util.BitSet;
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.util.Timestamps.compare;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
 import static io.spine.time.Timestamps2.isLaterThan;
-import static java.lang.Math.abs;
 
 /**
  * A utility class for working with {@link Interval}s.
@@ -76,21 +82,137 @@ public final class Intervals {
     /**
      * Returns a duration of the interval.
      *
+     * <p>The returned value is normalized and equals to the result of
+     * {@link Timestamps#between(Timestamp, Timestamp) Timestamps.between(start, end)}.
+     *
      * @param interval the interval to calculate its duration
      * @return the duration between the start and the end of the interval
      */
     public static Duration toDuration(Interval interval) {
         Timestamp start = interval.getStart();
         Timestamp end = interval.getEnd();
-        if (start.equals(end)) {
+        long seconds = end.getSeconds() - start.getSeconds();
+        int nanos = end.getNanos() - start.getNanos();
+        if (seconds > 0 && nanos < 0) {
+            seconds--;
+            nanos += NANOS_PER_SECOND;
+        } else if (seconds < 0 && nanos > 0) {
+            seconds++;
+            nanos -= NANOS_PER_SECOND;
+        }
+        if (seconds == 0 && nanos == 0) {
             return Durations2.ZERO;
         }
-        long secondsBetween = end.getSeconds() - start.getSeconds();
-        int nanosBetween = end.getNanos() - start.getNanos();
-        Duration.Builder duration = Duration
+        Duration duration = Duration
                 .newBuilder()
-                .setSeconds(abs(secondsBetween))
-                .setNanos(abs(nanosBetween));
-        return duration.build();
+                .setSeconds(seconds)
+                .setNanos(nanos)
+                .build();
+        return duration;
+    }
+
+    /**
+     * Obtains the duration of the interval in nanoseconds.
+     *
+     * @param interval the interval to calculate its duration
+     * @return the number of nanoseconds between the start and the end of the interval
+     * @throws ArithmeticException if the duration cannot be expressed in nanoseconds
+     */
+    public static long toNanos(Interval interval) {
+        Timestamp start = interval.getStart();
+        Timestamp end = interval.getEnd();
+        long seconds = end.getSeconds() - start.getSeconds();
+        int nanos = end.getNanos() - start.getNanos();
+        return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+    }
+
+    /**
+     * Merges the intervals which overlap or touch each other.
+     *
+     * <p>See {@link IntervalSet} for the set operations over intervals.
+     *
+     * @param intervals the intervals in any order
+     * @return disjoint intervals sorted by their starts
+     */
+    public static List<Interval> coalesce(Iterable<Interval> intervals) {
+        return IntervalSet.of(intervals)
+                          .toList();
+    }
+
+    /**
+     * Finds the points in time of a sorted column which are within the interval.
+     *
+     * <p>The interval is closed, in the same way as in {@link #contains(Interval, Timestamp)}.
+     * The matching points are found by binary search.
+     *
+     * @param interval         the interval to check the points against
+     * @param sortedEpochNanos the points in time in nanoseconds since the Unix epoch
+     *                         sorted in ascending order
+     * @return the range of indexes of the matching points
+     * @throws ArithmeticException if a bound of the interval cannot be expressed in
+     *                             epoch nanoseconds
+     */
+    public static Range<Integer> indexRange(Interval interval, long[] sortedEpochNanos) {
+        checkNotNull(interval);
+        checkNotNull(sortedEpochNanos);
+        long start = Timestamps.toNanos(interval.getStart());
+        long end = Timestamps.toNanos(interval.getEnd());
+        int length = sortedEpochNanos.length;
+        int from = TimestampSearch.lowerBound(sortedEpochNanos, 0, length, start);
+        int to = TimestampSearch.upperBound(sortedEpochNanos, from, length, end);
+        return Range.closedOpen(from, Math.max(from, to));
+    }
+
+    /**
+     * Finds the timestamps of a sorted list which are within the interval.
+     *
+     * <p>The interval is closed, in the same way as in {@link #contains(Interval, Timestamp)}.
+     * The matching timestamps are found by binary search, so the list should provide fast
+     * random access.
+     *
+     * @param interval         the interval to check the timestamps against
+     * @param sortedTimestamps the timestamps sorted in ascending order
+     * @return the range of indexes of the matching timestamps
+     */
+    public static Range<Integer> indexRange(Interval interval, List<Timestamp> sortedTimestamps) {
+        checkNotNull(interval);
+        checkNotNull(sortedTimestamps);
+        int from = TimestampSearch.lowerBound(sortedTimestamps, interval.getStart());
+        int to = TimestampSearch.upperBound(sortedTimestamps, interval.getEnd());
+        return Range.closedOpen(from, Math.max(from, to));
+    }
+
+    /**
+     * Finds the points in time of an unordered column which are within the interval.
+     *
+     * <p>The interval is closed, in the same way as in {@link #contains(Interval, Timestamp)}.
+     *
+     * @param interval   the interval to check the points against
+     * @param epochNanos the points in time in nanoseconds since the Unix epoch
+     * @return the set of indexes of the matching points
+     * @throws ArithmeticException if a bound of the interval cannot be expressed in
+     *                             epoch nanoseconds
+     */
+    public static BitSet indexesWithin(Interval interval, long[] epochNanos) {
+        checkNotNull(interval);
+        checkNotNull(epochNanos);
+        long start = Timestamps.toNanos(interval.getStart());
+        long end = Timestamps.toNanos(interval.getEnd());
+        return TimestampSearch.select(epochNanos, start, end);
+    }
+
+    /**
+     * Finds the timestamps of an unordered list which are within the interval.
+     *
+     * <p>The interval is closed, in the same way as in {@link #contains(Interval, Timestamp)}.
+     *
+     * @param interval   the interval to check the timestamps against
+     * @param timestamps the timestamps to check
+     * @return the set of indexes of the matching timestamps
+     */
+    public static BitSet indexesWithin(Interval interval, List<Timestamp> timestamps) {
+        checkNotNull(interval);
+        checkNotNull(timestamps);
+        return TimestampSearch.select(timestamps, interval.getStart(), interval.getEnd());
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+import static io.spine.time.Digits.NOT_A_NUMBER;
+
+/**
+ * Reads and writes {@link LocalDate} values in the ISO 8601 {@code yyyy-MM-dd} representation
+ * without going through {@code java.time} formatting API.
+ *
+ * <p>Only the canonical fixed-length layout is recognized. Other inputs, such as years with
+ * more than four digits, are left for the {@linkplain java.time.LocalDate#parse(CharSequence)
+ * Java Time parser}.
+ */
+final class LocalDateCodec {
+
+    /** The length of the {@code yyyy-MM-dd} string. */
+    static final int LENGTH = 10;
+
+    private static final int YEAR_DIGITS = 4;
+    private static final int MONTH_START = 5;
+    private static final int DAY_START = 8;
+    private static final int TWO_DIGITS = 2;
+
+    private static final char SEPARATOR = '-';
+
+    /** The greatest year which is written without the leading plus sign. */
+    private static final int MAX_FORMATTABLE_YEAR = 9999;
+
+    /** Prevent instantiation of this utility class. */
+    private LocalDateCodec() {
+    }
+
+    /**
+     * Parses the passed {@code yyyy-MM-dd} string.
+     *
+     * @return the parsed date or {@code null} if the passed value does not have the canonical
+     *         layout or is not a valid date
+     */
+    @Nullable
+    static LocalDate parse(CharSequence str) {
+        LocalDate.Builder builder = LocalDate.newBuilder();
+        if (!parse(str, 0, str.length(), builder)) {
+            return null;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the date located in the passed range of the sequence into the builder.
+     *
+     * @param str     the sequence to parse
+     * @param start   the index of the first character of the date, inclusive
+     * @param end     the index of the last character of the date, exclusive
+     * @param builder the builder to set the parsed values to
+     * @return {@code true} if the range contains a valid date, {@code false} otherwise;
+     *         the builder is not modified in the latter case
+     */
+    static boolean parse(CharSequence str, int start, int end, LocalDate.Builder builder) {
+        if (end - start != LENGTH
+                || str.charAt(start + YEAR_DIGITS) != SEPARATOR
+                || str.charAt(start + MONTH_START + TWO_DIGITS) != SEPARATOR) {
+            return false;
+        }
+        int year = Digits.read(str, start, YEAR_DIGITS);
+        int month = Digits.read(str, start + MONTH_START, TWO_DIGITS);
+        int day = Digits.read(str, start + DAY_START, TWO_DIGITS);
+        if (year == NOT_A_NUMBER || !isValid(year, month, day)) {
+            return false;
+        }
+        builder.setYear(year)
+               .setMonth(MonthOfYear.forNumber(month))
+               .setDay(day);
+        return true;
+    }
+
+    /**
+     * Verifies that the passed values form a calendar date.
+     *
+     * <p>Unlike {@link LocalDates#of(int, MonthOfYear, int)} the method does not throw, so that
+     * the caller can decide how to report the error.
+     */
+    @SuppressWarnings("MagicNumber") // The number of months in a year.
+    static boolean isValid(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        int daysInMonth = Months.daysInMonth(year, MonthOfYear.forNumber(month));
+        return day <= daysInMonth;
+    }
+
+    /**
+     * Tells if the passed date can be {@linkplain #append(LocalDate, Appendable) written}
+     * in the canonical {@code yyyy-MM-dd} layout.
+     */
+    static boolean isFormattable(LocalDate date) {
+        int year = date.getYear();
+        boolean result = 0 <= year && year <= MAX_FORMATTABLE_YEAR
+                && isValid(year, date.getMonthValue(), date.getDay());
+        return result;
+    }
+
+    /**
+     * Appends the passed date in the {@code yyyy-MM-dd} format.
+     *
+     * <p>The output is the same as produced by {@link java.time.LocalDate#toString()}.
+     *
+     * @param date the date to format, which must be {@linkplain #isFormattable(LocalDate)
+     *             formattable}
+     * @param out  the target for the formatted value
+     */
+    static void append(LocalDate date, Appendable out) throws IOException {
+        Digits.append(date.getYear(), YEAR_DIGITS, out);
+        out.append(SEPARATOR);
+        Digits.append(date.getMonthValue(), TWO_DIGITS, out);
+        out.append(SEPARATOR);
+        Digits.append(date.getDay(), TWO_DIGITS, out);
+    }
+}
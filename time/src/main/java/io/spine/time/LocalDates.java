@@ -20,8 +20,18 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.time.DtPreconditions.checkPositive;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
 import static java.lang.String.format;
 
 /**
@@ -32,14 +42,24 @@ import static java.lang.String.format;
  */
 public final class LocalDates {
 
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int WEDNESDAY = 3;
+    private static final int THURSDAY = 4;
+
     /** Prevent instantiation of this utility class. */
     private LocalDates() {
     }
 
     /**
      * Obtains current local date.
+     *
+     * <p>If a {@link CachedClock} is installed, the value is served by the clock.
      */
     public static LocalDate now() {
+        CachedClock clock = CachedClock.installed();
+        if (clock != null) {
+            return clock.localDate();
+        }
         java.time.LocalDate now = java.time.LocalDate.now();
         return of(now);
     }
@@ -69,6 +89,257 @@ public final class LocalDates {
         return result;
     }
 
+    /**
+     * Obtains the number of days passed since {@code 1970-01-01} till the passed date.
+     *
+     * <p>The value is calculated by integer arithmetic over the proleptic Gregorian calendar
+     * without conversion to Java Time.
+     *
+     * @return the number of days, negative for dates before {@code 1970-01-01}
+     * @throws IllegalArgumentException if the passed value is not a valid date
+     */
+    public static long toEpochDay(LocalDate date) {
+        checkValid(date);
+        return PackedLocalDate.toEpochDay(date.getYear(), date.getMonthValue(), date.getDay());
+    }
+
+    /**
+     * Obtains the local date by the number of days passed since {@code 1970-01-01}.
+     *
+     * <p>The value is calculated by integer arithmetic over the proleptic Gregorian calendar
+     * without conversion to Java Time.
+     *
+     * @param epochDay the number of days, negative for dates before {@code 1970-01-01}
+     * @throws IllegalArgumentException if the year of the date is out of the
+     *                                  {@linkplain PackedLocalDate#MIN_YEAR supported range}
+     */
+    public static LocalDate ofEpochDay(long epochDay) {
+        int packed = PackedLocalDate.ofEpochDay(epochDay);
+        return PackedLocalDate.unpackValid(packed);
+    }
+
+    /**
+     * Obtains the local date at the passed offset at the given point in time.
+     */
+    public static LocalDate dateAt(Timestamp time, ZoneOffset zoneOffset) {
+        checkNotNull(time);
+        checkNotNull(zoneOffset);
+        long localSeconds = time.getSeconds() + zoneOffset.getAmountSeconds();
+        return ofEpochDay(floorDiv(localSeconds, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Obtains the point in time at which the passed date starts at the given offset.
+     *
+     * @throws IllegalArgumentException if the passed value is not a valid date, or if
+     *                                  the resulting point in time cannot be represented
+     *                                  by a {@code Timestamp}
+     */
+    public static Timestamp toTimestamp(LocalDate date, ZoneOffset zoneOffset) {
+        checkNotNull(date);
+        checkNotNull(zoneOffset);
+        long seconds = toEpochDay(date) * SECONDS_PER_DAY - zoneOffset.getAmountSeconds();
+        Timestamp result = Timestamp
+                .newBuilder()
+                .setSeconds(seconds)
+                .build();
+        return Timestamps.checkValid(result);
+    }
+
+    /**
+     * Obtains the date which is the given number of days after the passed one.
+     *
+     * @param date the date to add days to
+     * @param days the number of days to add, may be negative
+     * @throws IllegalArgumentException if the passed value is not a valid date, or if the year
+     *                                  of the resulting date is out of the
+     *                                  {@linkplain PackedLocalDate#MIN_YEAR supported range}
+     * @throws ArithmeticException      if the resulting epoch day overflows {@code long}
+     */
+    public static LocalDate plusDays(LocalDate date, long days) {
+        long epochDay = Math.addExact(toEpochDay(date), days);
+        return ofEpochDay(epochDay);
+    }
+
+    /**
+     * Obtains the date which is the given number of days before the passed one.
+     *
+     * @see #plusDays(LocalDate, long)
+     */
+    public static LocalDate minusDays(LocalDate date, long days) {
+        long epochDay = Math.subtractExact(toEpochDay(date), days);
+        return ofEpochDay(epochDay);
+    }
+
+    /**
+     * Obtains the date which is the given number of months after the passed one.
+     *
+     * <p>If the day of the month is greater than the number of days in the resulting month,
+     * the last day of that month is taken. For example, one month after {@code 2018-01-31}
+     * is {@code 2018-02-28}.
+     *
+     * @param date   the date to add months to
+     * @param months the number of months to add, may be negative
+     * @throws IllegalArgumentException if the passed value is not a valid date, or if the year
+     *                                  of the resulting date is out of the
+     *                                  {@linkplain PackedLocalDate#MIN_YEAR supported range}
+     */
+    public static LocalDate plusMonths(LocalDate date, long months) {
+        checkValid(date);
+        if (months == 0) {
+            return date;
+        }
+        long monthCount = Math.addExact(date.getYear() * 12L + date.getMonthValue() - 1, months);
+        long year = floorDiv(monthCount, 12);
+        if (year < PackedLocalDate.MIN_YEAR || year > PackedLocalDate.MAX_YEAR) {
+            throw newIllegalArgumentException("The year (%d) is out of supported range.", year);
+        }
+        MonthOfYear month = MonthOfYear.forNumber((int) floorMod(monthCount, 12) + 1);
+        int day = Math.min(date.getDay(), Months.daysInMonth((int) year, month));
+        LocalDate result = LocalDate
+                .newBuilder()
+                .setYear((int) year)
+                .setMonth(month)
+                .setDay(day)
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the date which is the given number of years after the passed one.
+     *
+     * <p>One year after February 29 is February 28.
+     *
+     * @param date  the date to add years to
+     * @param years the number of years to add, may be negative
+     * @throws IllegalArgumentException if the passed value is not a valid date, or if the year
+     *                                  of the resulting date is out of the
+     *                                  {@linkplain PackedLocalDate#MIN_YEAR supported range}
+     */
+    public static LocalDate plusYears(LocalDate date, long years) {
+        return plusMonths(date, Math.multiplyExact(years, 12L));
+    }
+
+    /**
+     * Obtains the number of days from the first date till the second one.
+     *
+     * @return the number of days, negative if the second date is before the first one
+     * @throws IllegalArgumentException if one of the passed values is not a valid date
+     */
+    public static long daysBetween(LocalDate first, LocalDate second) {
+        return toEpochDay(second) - toEpochDay(first);
+    }
+
+    /**
+     * Obtains the day of the week of the passed date.
+     *
+     * @return the ISO 8601 number of the day, from 1 (Monday) to 7 (Sunday)
+     * @throws IllegalArgumentException if the passed value is not a valid date
+     */
+    public static int dayOfWeek(LocalDate date) {
+        return PackedLocalDate.dayOfWeekOfEpochDay(toEpochDay(date));
+    }
+
+    /**
+     * Obtains the number of the day within the year of the passed date.
+     *
+     * @return the day of the year, from 1 to 365, or to 366 in a leap year
+     * @throws IllegalArgumentException if the passed value is not a valid date
+     */
+    public static int dayOfYear(LocalDate date) {
+        checkValid(date);
+        return dayOfYear(date.getYear(), date.getMonthValue(), date.getDay());
+    }
+
+    /**
+     * Obtains the ISO 8601 week of the week-based year of the passed date.
+     *
+     * <p>Weeks start on Monday. The first week of a week-based year is the week with
+     * the first Thursday of the calendar year. Therefore, the first days of January may
+     * belong to the last week of the previous week-based year, and the last days of December
+     * may belong to the first week of the next one.
+     *
+     * @return the number of the week, from 1 to 52, or to 53 in a long week-based year
+     * @throws IllegalArgumentException if the passed value is not a valid date
+     * @see #isoWeekBasedYear(LocalDate)
+     */
+    public static int isoWeekOfYear(LocalDate date) {
+        long epochDay = toEpochDay(date);
+        int year = date.getYear();
+        int week = weekOfYear(dayOfYear(year, date.getMonthValue(), date.getDay()),
+                              PackedLocalDate.dayOfWeekOfEpochDay(epochDay));
+        if (week < 1) {
+            return weeksInWeekBasedYear(year - 1);
+        }
+        if (week > weeksInWeekBasedYear(year)) {
+            return 1;
+        }
+        return week;
+    }
+
+    /**
+     * Obtains the ISO 8601 week-based year of the passed date.
+     *
+     * @return the calendar year of the date, or the adjacent year if the date belongs to
+     *         a week of that year
+     * @throws IllegalArgumentException if the passed value is not a valid date
+     * @see #isoWeekOfYear(LocalDate)
+     */
+    public static int isoWeekBasedYear(LocalDate date) {
+        long epochDay = toEpochDay(date);
+        int year = date.getYear();
+        int week = weekOfYear(dayOfYear(year, date.getMonthValue(), date.getDay()),
+                              PackedLocalDate.dayOfWeekOfEpochDay(epochDay));
+        if (week < 1) {
+            return year - 1;
+        }
+        if (week > weeksInWeekBasedYear(year)) {
+            return year + 1;
+        }
+        return year;
+    }
+
+    /**
+     * Obtains the week number of the day of the year assuming the year has
+     * enough weeks.
+     *
+     * @return the number of the week, zero for a day of the last week of the previous year
+     */
+    private static int weekOfYear(int dayOfYear, int dayOfWeek) {
+        return (dayOfYear - dayOfWeek + 10) / DAYS_PER_WEEK;
+    }
+
+    /**
+     * Obtains the number of ISO 8601 weeks in the week-based year.
+     *
+     * <p>A year has 53 weeks if it starts on Thursday, or if it is a leap year which starts
+     * on Wednesday.
+     */
+    private static int weeksInWeekBasedYear(int year) {
+        int firstDayOfWeek = PackedLocalDate.dayOfWeekOfEpochDay(
+                PackedLocalDate.toEpochDay(year, 1, 1));
+        boolean longYear = firstDayOfWeek == THURSDAY
+                || (firstDayOfWeek == WEDNESDAY && Years.isLeapYear(year));
+        return longYear ? 53 : 52;
+    }
+
+    private static int dayOfYear(int year, int month, int day) {
+        return CalendarTable.daysBeforeMonth(Years.isLeapYear(year), month) + day;
+    }
+
+    /**
+     * Ensures that the passed value denotes an existing date.
+     */
+    private static void checkValid(LocalDate date) {
+        checkNotNull(date);
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        int day = date.getDay();
+        if (!LocalDateCodec.isValid(year, month, day)) {
+            throw newIllegalArgumentException("Invalid date: %d-%d-%d.", year, month, day);
+        }
+    }
+
     /**
      * Obtains local date from a year, month, and day.
      */
@@ -89,9 +360,17 @@ public final class LocalDates {
     /**
      * Parse from ISO 8601 date representation of the format {@code yyyy-MM-dd}.
      *
+     * <p>Strings of the canonical {@code yyyy-MM-dd} layout are read directly. Other values
+     * are parsed using Java Time.
+     *
      * @return a LocalDate parsed from the string
      */
     public static LocalDate parse(String str) {
+        checkNotNull(str);
+        LocalDate result = LocalDateCodec.parse(str);
+        if (result != null) {
+            return result;
+        }
         java.time.LocalDate parsed = java.time.LocalDate.parse(str);
         return of(parsed);
     }
@@ -105,6 +384,37 @@ public final class LocalDates {
         return ld.toString();
     }
 
+    /**
+     * Compares two local dates.
+     *
+     * <p>The dates are compared by their fields without conversion to Java Time.
+     *
+     * @return the value {@code 0} if the dates are equal, a value less than {@code 0} if
+     *         the first date is before the second one, and a value greater than {@code 0}
+     *         otherwise
+     */
+    public static int compare(LocalDate first, LocalDate second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        int result = Integer.compare(first.getYear(), second.getYear());
+        if (result == 0) {
+            result = Integer.compare(first.getMonthValue(), second.getMonthValue());
+        }
+        if (result == 0) {
+            result = Integer.compare(first.getDay(), second.getDay());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the comparator of local dates in chronological order.
+     *
+     * @see #compare(LocalDate, LocalDate)
+     */
+    public static Comparator<LocalDate> comparator() {
+        return LocalDateComparator.INSTANCE;
+    }
+
     /**
      * Verified fields of the passed local date instance.
      *
@@ -140,4 +450,16 @@ public final class LocalDates {
             throw new IllegalArgumentException(errMsg);
         }
     }
+
+    /**
+     * Compares local dates in chronological order.
+     */
+    private enum LocalDateComparator implements Comparator<LocalDate>, Serializable {
+        INSTANCE;
+
+        @Override
+        public int compare(LocalDate first, LocalDate second) {
+            return LocalDates.compare(first, second);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+import static io.spine.time.EarthTime.HOURS_PER_DAY;
+import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+
+/**
+ * Reads and writes {@link LocalTime} values in the ISO 8601 {@code HH:mm[:ss[.fffffffff]]}
+ * format without going through {@code java.time} formatting API.
+ *
+ * <p>The output is the same as produced by {@link java.time.LocalTime#toString()}.
+ * Parsing recognizes only the layouts the output can have, with from one to nine digits
+ * in the fraction of a second.
+ */
+final class LocalTimeCodec {
+
+    /** The length of the {@code HH:mm} string. */
+    private static final int HH_MM = 5;
+
+    /** The length of the {@code HH:mm:ss} string. */
+    private static final int HH_MM_SS = 8;
+
+    private static final int MINUTE_START = 3;
+    private static final int SECOND_START = 6;
+    private static final int TWO_DIGITS = 2;
+
+    private static final int NANO_DIGITS = 9;
+    private static final int MICRO_DIGITS = 6;
+    private static final int MILLI_DIGITS = 3;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private static final char TIME_SEPARATOR = ':';
+    private static final char FRACTION_SEPARATOR = '.';
+
+    /** Prevent instantiation of this utility class. */
+    private LocalTimeCodec() {
+    }
+
+    /**
+     * Parses the passed {@code HH:mm[:ss[.fffffffff]]} string.
+     *
+     * @return the parsed time or {@code null} if the passed value does not have one of
+     *         the recognized layouts or is not a valid time
+     */
+    @Nullable
+    static LocalTime parse(CharSequence str) {
+        LocalTime.Builder builder = LocalTime.newBuilder();
+        if (!parse(str, 0, str.length(), builder)) {
+            return null;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the time located in the passed range of the sequence into the builder.
+     *
+     * @param str     the sequence to parse
+     * @param start   the index of the first character of the time, inclusive
+     * @param end     the index of the last character of the time, exclusive
+     * @param builder the builder to set the parsed values to
+     * @return {@code true} if the range contains a valid time, {@code false} otherwise;
+     *         the builder is not modified in the latter case
+     */
+    static boolean parse(CharSequence str, int start, int end, LocalTime.Builder builder) {
+        int length = end - start;
+        if (length < HH_MM || str.charAt(start + TWO_DIGITS) != TIME_SEPARATOR) {
+            return false;
+        }
+        int hour = Digits.read(str, start, TWO_DIGITS);
+        int minute = Digits.read(str, start + MINUTE_START, TWO_DIGITS);
+        int second = 0;
+        int nano = 0;
+        if (length > HH_MM) {
+            if (length < HH_MM_SS || str.charAt(start + HH_MM) != TIME_SEPARATOR) {
+                return false;
+            }
+            second = Digits.read(str, start + SECOND_START, TWO_DIGITS);
+            if (length > HH_MM_SS) {
+                int fractionDigits = length - HH_MM_SS - 1;
+                if (str.charAt(start + HH_MM_SS) != FRACTION_SEPARATOR
+                        || fractionDigits < 1
+                        || fractionDigits > NANO_DIGITS) {
+                    return false;
+                }
+                int fraction = Digits.read(str, start + HH_MM_SS + 1, fractionDigits);
+                if (fraction == Digits.NOT_A_NUMBER) {
+                    return false;
+                }
+                nano = fraction * Digits.powerOfTen(NANO_DIGITS - fractionDigits);
+            }
+        }
+        if (!isValid(hour, minute, second)) {
+            return false;
+        }
+        builder.setHour(hour)
+               .setMinute(minute)
+               .setSecond(second)
+               .setNano(nano);
+        return true;
+    }
+
+    private static boolean isValid(int hour, int minute, int second) {
+        boolean result = 0 <= hour && hour < HOURS_PER_DAY
+                && 0 <= minute && minute < MINUTES_PER_HOUR
+                && 0 <= second && second < SECONDS_PER_MINUTE;
+        return result;
+    }
+
+    /**
+     * Tells if the fields of the passed time are within their bounds.
+     */
+    static boolean isValid(LocalTime time) {
+        int nano = time.getNano();
+        boolean result = isValid(time.getHour(), time.getMinute(), time.getSecond())
+                && 0 <= nano && nano < NANOS_PER_SECOND;
+        return result;
+    }
+
+    /**
+     * Appends the passed time to the given {@code Appendable}.
+     *
+     * <p>The seconds are omitted if both seconds and nanoseconds are zero. The fraction of
+     * a second is written with three, six, or nine digits, whichever is the shortest to
+     * represent the value exactly.
+     *
+     * @param time the time to format, which must be {@linkplain #isValid(LocalTime) valid}
+     * @param out  the target for the formatted value
+     */
+    static void append(LocalTime time, Appendable out) throws IOException {
+        int second = time.getSecond();
+        int nano = time.getNano();
+        Digits.append(time.getHour(), TWO_DIGITS, out);
+        out.append(TIME_SEPARATOR);
+        Digits.append(time.getMinute(), TWO_DIGITS, out);
+        if (second == 0 && nano == 0) {
+            return;
+        }
+        out.append(TIME_SEPARATOR);
+        Digits.append(second, TWO_DIGITS, out);
+        if (nano == 0) {
+            return;
+        }
+        out.append(FRACTION_SEPARATOR);
+        if (nano % NANOS_PER_MILLI == 0) {
+            Digits.append(nano / NANOS_PER_MILLI, MILLI_DIGITS, out);
+        } else if (nano % NANOS_PER_MICRO == 0) {
+            Digits.append(nano / NANOS_PER_MICRO, MICRO_DIGITS, out);
+        } else {
+            Digits.append(nano, NANO_DIGITS, out);
+        }
+    }
+}
@@ -19,17 +19,25 @@
  */
 package io.spine.time;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 
-import java.time.Instant;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Comparator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.time.EarthTime.HOURS_PER_DAY;
 import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
 import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.PackedLocalTime.NANOS_PER_DAY;
 import static io.spine.time.SiTime.MILLIS_PER_SECOND;
 import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.Math.floorMod;
 
 /**
  * Routines for working with {@link LocalTime}.
@@ -40,26 +48,77 @@ import static io.spine.time.SiTime.NANOS_PER_SECOND;
 @SuppressWarnings("ClassWithTooManyMethods") // OK for this utility class.
 public final class LocalTimes {
 
+    /** The length of the longest string produced by {@link #toString(LocalTime)}. */
+    private static final int MAX_STRING_LENGTH = 18;
+
     /** Prevent instantiation of this utility class. */
     private LocalTimes() {
     }
 
     /**
      * Obtains current local time.
+     *
+     * <p>If a {@link CachedClock} is installed, the value is served by the clock.
      */
     public static LocalTime now() {
+        CachedClock clock = CachedClock.installed();
+        if (clock != null) {
+            return clock.localTime();
+        }
         return of(java.time.LocalTime.now());
     }
 
     /**
      * Obtains local time at the passed time zone.
+     *
+     * <p>The value is calculated by integer arithmetic with nanosecond precision.
+     *
+     * @throws IllegalArgumentException if the passed {@code Timestamp} is not valid
      */
     public static LocalTime timeAt(Timestamp time, ZoneOffset zoneOffset) {
-        Instant instant = Instant.ofEpochMilli(Timestamps.toMillis(time));
-        java.time.ZoneOffset zo = ZoneOffsets.toJavaTime(zoneOffset);
-        java.time.LocalTime lt = instant.atOffset(zo)
-                                        .toLocalTime();
-        return of(lt);
+        int secondOfDay = secondOfDayAt(time, zoneOffset);
+        LocalTime result = LocalTime
+                .newBuilder()
+                .setHour(secondOfDay / SECONDS_PER_HOUR)
+                .setMinute(secondOfDay / SECONDS_PER_MINUTE % MINUTES_PER_HOUR)
+                .setSecond(secondOfDay % SECONDS_PER_MINUTE)
+                .setNano(time.getNanos())
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the number of nanoseconds passed since the start of the day at the passed
+     * time zone.
+     *
+     * <p>The result can be used with {@link PackedLocalTime}.
+     *
+     * @throws IllegalArgumentException if the passed {@code Timestamp} is not valid
+     */
+    public static long nanoOfDayAt(Timestamp time, ZoneOffset zoneOffset) {
+        int secondOfDay = secondOfDayAt(time, zoneOffset);
+        return (long) secondOfDay * NANOS_PER_SECOND + time.getNanos();
+    }
+
+    /**
+     * Obtains the number of nanoseconds passed since the start of the day at the passed
+     * time zone.
+     *
+     * @param epochNanos the number of nanoseconds since the Unix epoch
+     * @see #nanoOfDayAt(Timestamp, ZoneOffset)
+     */
+    public static long nanoOfDayAt(long epochNanos, ZoneOffset zoneOffset) {
+        checkNotNull(zoneOffset);
+        long offsetNanos = zoneOffset.getAmountSeconds() * (long) NANOS_PER_SECOND;
+        // Reduce the value first, so that adding the offset cannot overflow.
+        return floorMod(floorMod(epochNanos, NANOS_PER_DAY) + offsetNanos, NANOS_PER_DAY);
+    }
+
+    private static int secondOfDayAt(Timestamp time, ZoneOffset zoneOffset) {
+        Timestamps.checkValid(time);
+        checkNotNull(zoneOffset);
+        long localSeconds = time.getSeconds() + zoneOffset.getAmountSeconds();
+        return (int) floorMod(localSeconds, SECONDS_PER_DAY);
     }
 
     /**
@@ -130,18 +189,118 @@ public final class LocalTimes {
      * <p>Examples of results: {@code "13:45:30.123456789"}, {@code "09:37:00"}.
      */
     public static String toString(LocalTime time) {
-        String result = toJavaTime(time).toString();
-        return result;
+        StringBuilder result = new StringBuilder(MAX_STRING_LENGTH);
+        appendTo(result, time);
+        return result.toString();
+    }
+
+    /**
+     * Appends the string representation of the passed time to the given builder.
+     *
+     * <p>The appended value is the same as returned by {@link #toString(LocalTime)}.
+     *
+     * @return the passed builder
+     */
+    @CanIgnoreReturnValue
+    public static StringBuilder appendTo(StringBuilder builder, LocalTime time) {
+        try {
+            appendTo((Appendable) builder, time);
+        } catch (IOException e) {
+            // `StringBuilder` never throws `IOException`.
+            throw illegalStateWithCauseOf(e);
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the string representation of the passed time to the given {@code Appendable}.
+     *
+     * <p>The appended value is the same as returned by {@link #toString(LocalTime)}.
+     *
+     * @throws IOException if the {@code Appendable} fails to accept a character
+     */
+    public static void appendTo(Appendable out, LocalTime time) throws IOException {
+        checkNotNull(out);
+        checkNotNull(time);
+        if (!LocalTimeCodec.isValid(time)) {
+            // Let Java Time report the invalid value.
+            toJavaTime(time);
+        }
+        LocalTimeCodec.append(time, out);
     }
 
     /**
      * Parses the passed string into local time value.
+     *
+     * <p>Strings of the {@code HH:mm[:ss[.fffffffff]]} format are read directly. Other values
+     * are parsed using Java Time.
      */
     public static LocalTime parse(String str) {
+        checkNotNull(str);
+        LocalTime result = LocalTimeCodec.parse(str);
+        if (result != null) {
+            return result;
+        }
         java.time.LocalTime parsed = java.time.LocalTime.parse(str);
         return of(parsed);
     }
 
+    /**
+     * Compares two local time values.
+     *
+     * <p>The values are compared by their fields without conversion to Java Time.
+     *
+     * @return the value {@code 0} if the values are equal, a value less than {@code 0} if
+     *         the first value is before the second one, and a value greater than {@code 0}
+     *         otherwise
+     */
+    public static int compare(LocalTime first, LocalTime second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        return Long.compare(nanoOfDay(first), nanoOfDay(second));
+    }
+
+    /**
+     * Obtains the comparator of local time values in chronological order.
+     *
+     * @see #compare(LocalTime, LocalTime)
+     */
+    public static Comparator<LocalTime> comparator() {
+        return LocalTimeComparator.INSTANCE;
+    }
+
+    /**
+     * Obtains the number of seconds passed since the start of the day till the passed time.
+     *
+     * <p>The fields of the passed value are not validated.
+     */
+    static int secondOfDay(LocalTime time) {
+        return time.getHour() * SECONDS_PER_HOUR
+                + time.getMinute() * SECONDS_PER_MINUTE
+                + time.getSecond();
+    }
+
+    /**
+     * Obtains the number of nanoseconds passed since the start of the day till the passed time.
+     *
+     * <p>The fields of the passed value are not validated.
+     */
+    static long nanoOfDay(LocalTime time) {
+        return (long) secondOfDay(time) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    /**
+     * Compares local time values in chronological order.
+     */
+    private enum LocalTimeComparator implements Comparator<LocalTime>, Serializable {
+        INSTANCE;
+
+        @Override
+        public int compare(LocalTime first, LocalTime second) {
+            return LocalTimes.compare(first, second);
+        }
+    }
+
     /**
      * Arguments in preconditions checks for time modification routines.
      */
@@ -160,7 +319,10 @@ public final class LocalTimes {
         }
 
         void check(int value) {
-            DtPreconditions.checkBounds(value, name().toLowerCase(), 0, upperBound);
+            // Obtain the parameter name only when reporting an error.
+            if (value < 0 || value > upperBound) {
+                DtPreconditions.checkBounds(value, name().toLowerCase(), 0, upperBound);
+            }
         }
     }
 }
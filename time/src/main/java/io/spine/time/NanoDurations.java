@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.SiTime.MILLIS_PER_SECOND;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+
+/**
+ * Arithmetic over durations expressed as a primitive {@code long} number of nanoseconds.
+ *
+ * <p>The methods of this class allow to perform computations over durations without
+ * creating a {@link Duration} message at each step. Convert a {@code Duration} into
+ * nanoseconds {@linkplain #of(Duration) once}, compute, and then convert the result
+ * {@linkplain #toDuration(long) back}.
+ *
+ * <p>A {@code long} can hold about 292 years of nanoseconds, positive or negative.
+ * All the operations check for overflow and throw {@link ArithmeticException} if the result
+ * does not fit.
+ *
+ * <p>Conversions to coarser units truncate the value towards zero.
+ *
+ * @see Durations2
+ */
+public final class NanoDurations {
+
+    private static final long NANOS_PER_MICRO = 1_000;
+    private static final long NANOS_PER_MILLI = NANOS_PER_SECOND / MILLIS_PER_SECOND;
+    private static final long NANOS_PER_MINUTE = NANOS_PER_SECOND * (long) SECONDS_PER_MINUTE;
+    private static final long NANOS_PER_HOUR = NANOS_PER_SECOND * (long) SECONDS_PER_HOUR;
+
+    /** Prevent instantiation of this utility class. */
+    private NanoDurations() {
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed duration.
+     *
+     * @throws ArithmeticException if the duration is too long to be expressed in nanoseconds
+     */
+    public static long of(Duration duration) {
+        checkNotNull(duration);
+        return Durations.toNanos(duration);
+    }
+
+    /**
+     * Converts the passed number of nanoseconds to a {@code Duration}.
+     */
+    public static Duration toDuration(long nanos) {
+        return Durations.fromNanos(nanos);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of microseconds.
+     */
+    public static long fromMicros(long micros) {
+        return Math.multiplyExact(micros, NANOS_PER_MICRO);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of milliseconds.
+     */
+    public static long fromMillis(long millis) {
+        return Math.multiplyExact(millis, NANOS_PER_MILLI);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of seconds.
+     */
+    public static long fromSeconds(long seconds) {
+        return Math.multiplyExact(seconds, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of minutes.
+     */
+    public static long fromMinutes(long minutes) {
+        return Math.multiplyExact(minutes, NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of hours.
+     */
+    public static long fromHours(long hours) {
+        return Math.multiplyExact(hours, NANOS_PER_HOUR);
+    }
+
+    /**
+     * Obtains the number of nanoseconds in the passed number of hours and minutes.
+     */
+    public static long fromHoursAndMinutes(long hours, long minutes) {
+        return Math.addExact(fromHours(hours), fromMinutes(minutes));
+    }
+
+    /**
+     * Obtains the number of whole microseconds in the passed duration.
+     */
+    public static long toMicros(long nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Obtains the number of whole milliseconds in the passed duration.
+     */
+    public static long toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Obtains the number of whole seconds in the passed duration.
+     */
+    public static long toSeconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Obtains the number of whole minutes in the passed duration.
+     */
+    public static long toMinutes(long nanos) {
+        return nanos / NANOS_PER_MINUTE;
+    }
+
+    /**
+     * Obtains the number of whole hours in the passed duration.
+     */
+    public static long toHours(long nanos) {
+        return nanos / NANOS_PER_HOUR;
+    }
+
+    /**
+     * Obtains the number of minutes remaining in the passed duration after subtracting
+     * whole hours.
+     */
+    public static int getMinutes(long nanos) {
+        return (int) (toMinutes(nanos) % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Adds two durations.
+     */
+    public static long add(long nanos, long another) {
+        return Math.addExact(nanos, another);
+    }
+
+    /**
+     * Subtracts the second duration from the first one.
+     */
+    public static long subtract(long nanos, long another) {
+        return Math.subtractExact(nanos, another);
+    }
+
+    /**
+     * Multiplies the duration by the passed factor.
+     */
+    public static long multiply(long nanos, long factor) {
+        return Math.multiplyExact(nanos, factor);
+    }
+
+    /**
+     * Divides the duration by the passed divisor truncating the result towards zero.
+     *
+     * @throws ArithmeticException if the divisor is zero or the result overflows
+     */
+    public static long divide(long nanos, long divisor) {
+        if (divisor == -1) {
+            return Math.negateExact(nanos);
+        }
+        return nanos / divisor;
+    }
+
+    /**
+     * Negates the duration.
+     */
+    public static long negate(long nanos) {
+        return Math.negateExact(nanos);
+    }
+
+    /**
+     * Compares two durations.
+     *
+     * @return a negative value if the first duration is shorter than the second, a positive
+     *         value if it is longer, and zero if the durations are equal
+     */
+    public static int compare(long nanos, long another) {
+        return Long.compare(nanos, another);
+    }
+}
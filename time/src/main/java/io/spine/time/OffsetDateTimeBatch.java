@@ -0,0 +1,336 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.annotation.Experimental;
+
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+
+/**
+ * The fields of {@link OffsetDateTime}s converted in bulk from points in time.
+ *
+ * <p>A batch is created from a column of points in time expressed as the numbers of
+ * nanoseconds since the Unix epoch, such as the one obtained from
+ * {@link TimestampColumn#toEpochNanos()}, and a {@link ZoneOffset} or a {@link ZoneId}.
+ * The fields of the date/time values are stored in parallel {@code int} arrays, one per
+ * {@linkplain Field field}, without creating any objects per value.
+ * The {@code OffsetDateTime} messages are created only when they are
+ * {@linkplain #get(int) requested}, e.g. while iterating over the {@linkplain #asList() list
+ * view} of the batch.
+ *
+ * <p>The conversion uses integer arithmetic only. The date of the previous value is reused
+ * if the following value falls into the same day, and the offsets of a time zone are obtained
+ * from its {@linkplain ZoneIds cached transitions}. Large batches can be converted
+ * {@linkplain #parallelOf(long[], ZoneOffset) in parallel}.
+ *
+ * <p>A batch is immutable.
+ */
+@Experimental
+public final class OffsetDateTimeBatch {
+
+    /**
+     * The number of values below which the parallel conversion falls back to
+     * the sequential one.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** The smallest number of values converted by one parallel task. */
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private static final Field[] FIELDS = Field.values();
+
+    private final int size;
+
+    /** The values of the fields by the ordinals of the {@linkplain Field fields}. */
+    private final int[][] columns;
+
+    private OffsetDateTimeBatch(int size) {
+        this.size = size;
+        this.columns = new int[FIELDS.length][size];
+    }
+
+    /**
+     * Converts the passed points in time to date/time values at the given offset.
+     *
+     * @param epochNanos the numbers of nanoseconds since the Unix epoch
+     * @param zoneOffset the offset of the date/time values
+     */
+    public static OffsetDateTimeBatch of(long[] epochNanos, ZoneOffset zoneOffset) {
+        checkNotNull(epochNanos);
+        checkNotNull(zoneOffset);
+        return convert(epochNanos, zoneOffset, null, null);
+    }
+
+    /**
+     * Converts the passed points in time to date/time values in the given time zone.
+     *
+     * @param epochNanos the numbers of nanoseconds since the Unix epoch
+     * @param zoneId     the time zone of the date/time values
+     * @throws IllegalArgumentException if the ID of the zone is not known to Java Time
+     */
+    public static OffsetDateTimeBatch of(long[] epochNanos, ZoneId zoneId) {
+        checkNotNull(epochNanos);
+        ZoneTransitions transitions = ZoneIds.transitionsOf(zoneId);
+        return convert(epochNanos, null, transitions, null);
+    }
+
+    /**
+     * Converts the passed points in time to date/time values at the given offset using
+     * the {@linkplain ForkJoinPool#commonPool() common pool} to split the work.
+     *
+     * <p>Batches smaller than {@value #PARALLEL_THRESHOLD} values are converted sequentially.
+     *
+     * @see #of(long[], ZoneOffset)
+     */
+    public static OffsetDateTimeBatch parallelOf(long[] epochNanos, ZoneOffset zoneOffset) {
+        return parallelOf(epochNanos, zoneOffset, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts the passed points in time to date/time values at the given offset using
+     * the passed pool to split the work.
+     */
+    @VisibleForTesting
+    static OffsetDateTimeBatch parallelOf(long[] epochNanos,
+                                          ZoneOffset zoneOffset,
+                                          ForkJoinPool pool) {
+        checkNotNull(epochNanos);
+        checkNotNull(zoneOffset);
+        checkNotNull(pool);
+        return convert(epochNanos, zoneOffset, null, pool);
+    }
+
+    /**
+     * Converts the passed points in time to date/time values in the given time zone using
+     * the {@linkplain ForkJoinPool#commonPool() common pool} to split the work.
+     *
+     * <p>Batches smaller than {@value #PARALLEL_THRESHOLD} values are converted sequentially.
+     *
+     * @see #of(long[], ZoneId)
+     */
+    public static OffsetDateTimeBatch parallelOf(long[] epochNanos, ZoneId zoneId) {
+        return parallelOf(epochNanos, zoneId, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts the passed points in time to date/time values in the given time zone using
+     * the passed pool to split the work.
+     */
+    @VisibleForTesting
+    static OffsetDateTimeBatch parallelOf(long[] epochNanos, ZoneId zoneId, ForkJoinPool pool) {
+        checkNotNull(epochNanos);
+        checkNotNull(pool);
+        ZoneTransitions transitions = ZoneIds.transitionsOf(zoneId);
+        return convert(epochNanos, null, transitions, pool);
+    }
+
+    /**
+     * Converts the values with either a fixed offset or the transitions of a zone.
+     */
+    private static OffsetDateTimeBatch convert(long[] epochNanos,
+                                               @Nullable ZoneOffset zoneOffset,
+                                               @Nullable ZoneTransitions transitions,
+                                               @Nullable ForkJoinPool pool) {
+        int size = epochNanos.length;
+        OffsetDateTimeBatch batch = new OffsetDateTimeBatch(size);
+        if (pool == null || size < PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            batch.fill(epochNanos, zoneOffset, transitions, 0, size);
+            return batch;
+        }
+        int chunks = Math.min(pool.getParallelism() * 4, size / MIN_CHUNK);
+        pool.invoke(new ChunkTask(0, chunks, chunk -> {
+            int from = (int) ((long) size * chunk / chunks);
+            int to = (int) ((long) size * (chunk + 1) / chunks);
+            batch.fill(epochNanos, zoneOffset, transitions, from, to);
+        }));
+        return batch;
+    }
+
+    private void fill(long[] epochNanos,
+                      @Nullable ZoneOffset zoneOffset,
+                      @Nullable ZoneTransitions transitions,
+                      int from, int to) {
+        int[] offsets = column(Field.OFFSET_SECONDS);
+        if (transitions != null) {
+            transitions.offsetSecondsAt(epochNanos, from, to, offsets);
+        } else {
+            checkNotNull(zoneOffset);
+            Arrays.fill(offsets, from, to, zoneOffset.getAmountSeconds());
+        }
+        int[] years = column(Field.YEAR);
+        int[] months = column(Field.MONTH);
+        int[] days = column(Field.DAY);
+        int[] hours = column(Field.HOUR);
+        int[] minutes = column(Field.MINUTE);
+        int[] seconds = column(Field.SECOND);
+        int[] nanos = column(Field.NANO);
+        long lastDay = Long.MIN_VALUE;
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = from; i < to; i++) {
+            long epochSecond = floorDiv(epochNanos[i], NANOS_PER_SECOND);
+            long localSeconds = epochSecond + offsets[i];
+            long epochDay = floorDiv(localSeconds, SECONDS_PER_DAY);
+            if (epochDay != lastDay) {
+                int packed = PackedLocalDate.ofEpochDay(epochDay);
+                year = PackedLocalDate.year(packed);
+                month = PackedLocalDate.month(packed);
+                day = PackedLocalDate.day(packed);
+                lastDay = epochDay;
+            }
+            int secondOfDay = (int) (localSeconds - epochDay * SECONDS_PER_DAY);
+            years[i] = year;
+            months[i] = month;
+            days[i] = day;
+            hours[i] = secondOfDay / SECONDS_PER_HOUR;
+            minutes[i] = secondOfDay / SECONDS_PER_MINUTE % MINUTES_PER_HOUR;
+            seconds[i] = secondOfDay % SECONDS_PER_MINUTE;
+            nanos[i] = (int) (epochNanos[i] - epochSecond * NANOS_PER_SECOND);
+        }
+    }
+
+    private int[] column(Field field) {
+        return columns[field.ordinal()];
+    }
+
+    /**
+     * Obtains the number of values in the batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtains the value of the field of the date/time with the passed index.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of the batch
+     */
+    public int get(Field field, int index) {
+        checkNotNull(field);
+        checkElementIndex(index, size);
+        return column(field)[index];
+    }
+
+    /**
+     * Obtains the values of the passed field for all the date/time values in the batch.
+     *
+     * @return a new array with the values in the order of the converted points in time
+     */
+    public int[] toArray(Field field) {
+        checkNotNull(field);
+        return column(field).clone();
+    }
+
+    /**
+     * Creates the date/time with the passed index.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of the batch
+     */
+    public OffsetDateTime get(int index) {
+        checkElementIndex(index, size);
+        LocalDate date = LocalDate
+                .newBuilder()
+                .setYear(column(Field.YEAR)[index])
+                .setMonthValue(column(Field.MONTH)[index])
+                .setDay(column(Field.DAY)[index])
+                .build();
+        LocalTime time = LocalTime
+                .newBuilder()
+                .setHour(column(Field.HOUR)[index])
+                .setMinute(column(Field.MINUTE)[index])
+                .setSecond(column(Field.SECOND)[index])
+                .setNano(column(Field.NANO)[index])
+                .build();
+        ZoneOffset offset = ZoneOffsets.ofSeconds(column(Field.OFFSET_SECONDS)[index]);
+        return OffsetDateTimes.of(date, time, offset);
+    }
+
+    /**
+     * Obtains a list view of the batch.
+     *
+     * <p>The date/time messages are created on each access to the elements of the list.
+     */
+    public List<OffsetDateTime> asList() {
+        return new ListView();
+    }
+
+    /**
+     * A field of the date/time values of the batch.
+     */
+    public enum Field {
+
+        /** The year, which is negative for years before 1 AD. */
+        YEAR,
+
+        /** The number of the month, from 1 to 12. */
+        MONTH,
+
+        /** The day of the month, from 1 to 31. */
+        DAY,
+
+        /** The hour of the day, from 0 to 23. */
+        HOUR,
+
+        /** The minute of the hour, from 0 to 59. */
+        MINUTE,
+
+        /** The second of the minute, from 0 to 59. */
+        SECOND,
+
+        /** The nanosecond of the second, from 0 to 999,999,999. */
+        NANO,
+
+        /** The offset from UTC in seconds. */
+        OFFSET_SECONDS
+    }
+
+    /**
+     * The read-only list of the date/time values of the batch.
+     */
+    private final class ListView extends AbstractList<OffsetDateTime> implements RandomAccess {
+
+        @Override
+        public OffsetDateTime get(int index) {
+            return OffsetDateTimeBatch.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Reads and writes {@link OffsetDateTime} values in the ISO 8601
+ * {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]Z|+HH:MM[:SS]} format in a single pass.
+ *
+ * <p>The output is the same as produced by {@link java.time.OffsetDateTime#toString()}.
+ * Parsing recognizes only four-digit years, and the {@code 'T'} and {@code 'Z'} letters
+ * in the upper case. Other inputs are left for the
+ * {@linkplain java.time.OffsetDateTime#parse(CharSequence) Java Time parser}.
+ */
+final class OffsetDateTimeCodec {
+
+    private static final char TIME_SEPARATOR = 'T';
+
+    /** The index of the time part in a string with a canonical date. */
+    private static final int TIME_START = LocalDateCodec.LENGTH + 1;
+
+    /** The length of the shortest time part, which is {@code HH:mm}. */
+    private static final int MIN_TIME_LENGTH = 5;
+
+    /** Prevent instantiation of this utility class. */
+    private OffsetDateTimeCodec() {
+    }
+
+    /**
+     * Parses the passed date/time string.
+     *
+     * @return the parsed value or {@code null} if the passed string is not recognized
+     */
+    @Nullable
+    static OffsetDateTime parse(CharSequence str) {
+        int length = str.length();
+        if (length <= TIME_START + MIN_TIME_LENGTH
+                || str.charAt(LocalDateCodec.LENGTH) != TIME_SEPARATOR) {
+            return null;
+        }
+        int offsetStart = TIME_START + MIN_TIME_LENGTH;
+        while (offsetStart < length && !ZoneOffsetCodec.isOffsetStart(str.charAt(offsetStart))) {
+            offsetStart++;
+        }
+        int offsetSeconds = ZoneOffsetCodec.parse(str, offsetStart, length);
+        if (offsetSeconds == ZoneOffsetCodec.INVALID) {
+            return null;
+        }
+        OffsetDateTime.Builder builder = OffsetDateTime.newBuilder();
+        boolean parsed =
+                LocalDateCodec.parse(str, 0, LocalDateCodec.LENGTH, builder.getDateBuilder())
+                && LocalTimeCodec.parse(str, TIME_START, offsetStart, builder.getTimeBuilder());
+        if (!parsed) {
+            return null;
+        }
+        OffsetDateTime result = builder
+                .setOffset(ZoneOffsets.ofSeconds(offsetSeconds))
+                .build();
+        return result;
+    }
+
+    /**
+     * Tells if the passed value can be {@linkplain #append(OffsetDateTime, Appendable) written}
+     * by this codec.
+     */
+    static boolean isFormattable(OffsetDateTime value) {
+        boolean result = LocalDateCodec.isFormattable(value.getDate())
+                && LocalTimeCodec.isValid(value.getTime())
+                && ZoneOffsetCodec.isValid(value.getOffset()
+                                                .getAmountSeconds());
+        return result;
+    }
+
+    /**
+     * Appends the passed value in the ISO 8601 format.
+     *
+     * @param value the value to format, which must be
+     *              {@linkplain #isFormattable(OffsetDateTime) formattable}
+     * @param out   the target for the formatted value
+     */
+    static void append(OffsetDateTime value, Appendable out) throws IOException {
+        LocalDateCodec.append(value.getDate(), out);
+        out.append(TIME_SEPARATOR);
+        LocalTimeCodec.append(value.getTime(), out);
+        ZoneOffsetCodec.append(value.getOffset()
+                                    .getAmountSeconds(), out);
+    }
+}
@@ -19,6 +19,17 @@
  */
 package io.spine.time;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Timestamp;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Comparator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
 /**
  * Routines for working with {@link OffsetDateTime}.
  *
@@ -28,14 +39,26 @@ package io.spine.time;
 @SuppressWarnings("ClassWithTooManyMethods")
 public final class OffsetDateTimes {
 
+    /**
+     * The length of the longest string produced by {@link #toString(OffsetDateTime)} for
+     * a four-digit year.
+     */
+    private static final int MAX_STRING_LENGTH = 38;
+
     /** Prevent instantiation of this utility class. */
     private OffsetDateTimes() {
     }
 
     /**
      * Obtains current date/time at the passed time zone.
+     *
+     * <p>If a {@link CachedClock} is installed, the value is served by the clock.
      */
     public static OffsetDateTime now() {
+        CachedClock clock = CachedClock.installed();
+        if (clock != null) {
+            return clock.offsetDateTime();
+        }
         java.time.OffsetDateTime now = java.time.OffsetDateTime.now();
         LocalTime localTime = LocalTimes.of(now.toLocalTime());
         LocalDate localDate = LocalDates.of(now.toLocalDate());
@@ -56,12 +79,38 @@ public final class OffsetDateTimes {
     public static OffsetDateTime of(java.time.OffsetDateTime jdt) {
         java.time.LocalDate ld = jdt.toLocalDate();
         java.time.LocalTime lt = jdt.toLocalTime();
-        java.time.ZoneOffset zo = jdt.toZonedDateTime().getOffset();
+        java.time.ZoneOffset zo = jdt.getOffset();
         return create(LocalDates.of(ld),
                       LocalTimes.of(lt),
                       ZoneOffsets.of(zo));
     }
 
+    /**
+     * Obtains the date and time at the passed offset at the given point in time.
+     *
+     * <p>The value is calculated by integer arithmetic without conversion to Java Time.
+     *
+     * @throws IllegalArgumentException if the passed {@code Timestamp} is not valid
+     */
+    public static OffsetDateTime dateTimeAt(Timestamp time, ZoneOffset zoneOffset) {
+        LocalTime localTime = LocalTimes.timeAt(time, zoneOffset);
+        LocalDate localDate = LocalDates.dateAt(time, zoneOffset);
+        return create(localDate, localTime, zoneOffset);
+    }
+
+    /**
+     * Obtains the date and time in the passed time zone at the given point in time.
+     *
+     * <p>The offset of the zone is obtained via {@link ZoneIds#offsetAt(ZoneId, Timestamp)}.
+     *
+     * @throws IllegalArgumentException if the passed {@code Timestamp} is not valid, or
+     *                                  if the ID of the zone is not known to Java Time
+     */
+    public static OffsetDateTime dateTimeAt(Timestamp time, ZoneId zoneId) {
+        ZoneOffset zoneOffset = ZoneIds.offsetAt(zoneId, time);
+        return dateTimeAt(time, zoneOffset);
+    }
+
     private static OffsetDateTime create(LocalDate date, LocalTime time, ZoneOffset offset) {
         OffsetDateTime.Builder result = OffsetDateTime
                 .newBuilder()
@@ -87,15 +136,131 @@ public final class OffsetDateTimes {
      * Returns a ISO 8601 date/time string corresponding to the passed value.
      */
     public static String toString(OffsetDateTime value) {
-        return toJavaTime(value).toString();
+        checkNotNull(value);
+        if (!OffsetDateTimeCodec.isFormattable(value)) {
+            return toJavaTime(value).toString();
+        }
+        StringBuilder result = new StringBuilder(MAX_STRING_LENGTH);
+        appendTo(result, value);
+        return result.toString();
+    }
+
+    /**
+     * Appends the ISO 8601 date/time string corresponding to the passed value to
+     * the given builder.
+     *
+     * <p>The appended value is the same as returned by {@link #toString(OffsetDateTime)}.
+     *
+     * @return the passed builder
+     */
+    @CanIgnoreReturnValue
+    public static StringBuilder appendTo(StringBuilder builder, OffsetDateTime value) {
+        try {
+            appendTo((Appendable) builder, value);
+        } catch (IOException e) {
+            // `StringBuilder` never throws `IOException`.
+            throw illegalStateWithCauseOf(e);
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the ISO 8601 date/time string corresponding to the passed value to
+     * the given {@code Appendable}.
+     *
+     * <p>The appended value is the same as returned by {@link #toString(OffsetDateTime)}.
+     *
+     * @throws IOException if the {@code Appendable} fails to accept a character
+     */
+    public static void appendTo(Appendable out, OffsetDateTime value) throws IOException {
+        checkNotNull(out);
+        checkNotNull(value);
+        if (OffsetDateTimeCodec.isFormattable(value)) {
+            OffsetDateTimeCodec.append(value, out);
+        } else {
+            out.append(toJavaTime(value).toString());
+        }
     }
 
     /**
      * Parse from ISO 8601 date/time string to {@code OffsetDateTime}.
      *
+     * <p>Strings with four-digit years are read directly. Other values are parsed
+     * using Java Time.
      */
     public static OffsetDateTime parse(String value) {
+        checkNotNull(value);
+        OffsetDateTime result = OffsetDateTimeCodec.parse(value);
+        if (result != null) {
+            return result;
+        }
         java.time.OffsetDateTime parsed = java.time.OffsetDateTime.parse(value);
         return of(parsed);
     }
+
+    /**
+     * Compares two date-time values with offsets.
+     *
+     * <p>The values are compared in the same way as {@link java.time.OffsetDateTime#compareTo
+     * java.time.OffsetDateTime} does: by the instant first, and then by the local date-time.
+     * The comparison is made by integer arithmetic on the fields of the values without
+     * conversion to Java Time.
+     *
+     * @return the value {@code 0} if the values are equal, a value less than {@code 0} if
+     *         the first value is before the second one, and a value greater than {@code 0}
+     *         otherwise
+     */
+    public static int compare(OffsetDateTime first, OffsetDateTime second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        int result = Long.compare(toEpochSecond(first), toEpochSecond(second));
+        if (result == 0) {
+            result = Integer.compare(first.getTime()
+                                          .getNano(),
+                                     second.getTime()
+                                           .getNano());
+        }
+        if (result == 0) {
+            result = LocalDates.compare(first.getDate(), second.getDate());
+        }
+        if (result == 0) {
+            result = LocalTimes.compare(first.getTime(), second.getTime());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the comparator of date-time values with offsets.
+     *
+     * @see #compare(OffsetDateTime, OffsetDateTime)
+     */
+    public static Comparator<OffsetDateTime> comparator() {
+        return OffsetDateTimeComparator.INSTANCE;
+    }
+
+    /**
+     * Obtains the number of seconds passed since the Unix epoch till the passed value.
+     */
+    private static long toEpochSecond(OffsetDateTime dateTime) {
+        LocalDate date = dateTime.getDate();
+        long epochDay = PackedLocalDate.toEpochDay(date.getYear(),
+                                                   date.getMonthValue(),
+                                                   date.getDay());
+        return epochDay * SECONDS_PER_DAY
+                + LocalTimes.secondOfDay(dateTime.getTime())
+                - dateTime.getOffset()
+                          .getAmountSeconds();
+    }
+
+    /**
+     * Compares date-time values with offsets.
+     */
+    private enum OffsetDateTimeComparator implements Comparator<OffsetDateTime>, Serializable {
+        INSTANCE;
+
+        @Override
+        public int compare(OffsetDateTime first, OffsetDateTime second) {
+            return OffsetDateTimes.compare(first, second);
+        }
+    }
 }
@@ -19,7 +19,11 @@
  */
 package io.spine.time;
 
+import java.io.Serializable;
+import java.util.Comparator;
+
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
 
 /**
  * Routines for working with {@link OffsetTime}.
@@ -34,15 +38,21 @@ public final class OffsetTimes {
     }
 
     /**
-     * Obtains offset time using {@code ZoneOffset}.
+     * Obtains the current time at the passed offset.
+     *
+     * <p>If a {@link CachedClock} is installed, the value is served by the clock.
+     *
+     * @throws java.time.DateTimeException if the passed offset is out of the supported range
      */
     public static OffsetTime now(ZoneOffset zoneOffset) {
         checkNotNull(zoneOffset);
         java.time.ZoneOffset zo = ZoneOffsets.toJavaTime(zoneOffset);
-        java.time.OffsetTime jt = java.time.LocalTime.now().atOffset(zo);
-
+        CachedClock clock = CachedClock.installed();
+        if (clock != null) {
+            return of(clock.localTimeAt(zoneOffset), zoneOffset);
+        }
+        java.time.OffsetTime jt = java.time.OffsetTime.now(zo);
         LocalTime localTime = LocalTimes.of(jt.toLocalTime());
-        
         OffsetTime result = OffsetTime
                 .newBuilder()
                 .setTime(localTime)
@@ -102,4 +112,56 @@ public final class OffsetTimes {
         java.time.OffsetTime parsed = java.time.OffsetTime.parse(str);
         return of(parsed);
     }
+
+    /**
+     * Compares two offset time values.
+     *
+     * <p>The values are compared in the same way as {@link java.time.OffsetTime#compareTo
+     * java.time.OffsetTime} does: by the instant on the same day first, and then by
+     * the local time. The comparison is made by integer arithmetic on the fields of
+     * the values without conversion to Java Time.
+     *
+     * @return the value {@code 0} if the values are equal, a value less than {@code 0} if
+     *         the first value is before the second one, and a value greater than {@code 0}
+     *         otherwise
+     */
+    public static int compare(OffsetTime first, OffsetTime second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        int result = Long.compare(toEpochNano(first), toEpochNano(second));
+        if (result == 0) {
+            result = LocalTimes.compare(first.getTime(), second.getTime());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the comparator of offset time values.
+     *
+     * @see #compare(OffsetTime, OffsetTime)
+     */
+    public static Comparator<OffsetTime> comparator() {
+        return OffsetTimeComparator.INSTANCE;
+    }
+
+    /**
+     * Obtains the number of nanoseconds of the time at UTC on the day of the passed time.
+     */
+    private static long toEpochNano(OffsetTime time) {
+        long offsetNanos = (long) time.getOffset()
+                                      .getAmountSeconds() * NANOS_PER_SECOND;
+        return LocalTimes.nanoOfDay(time.getTime()) - offsetNanos;
+    }
+
+    /**
+     * Compares offset time values.
+     */
+    private enum OffsetTimeComparator implements Comparator<OffsetTime>, Serializable {
+        INSTANCE;
+
+        @Override
+        public int compare(OffsetTime first, OffsetTime second) {
+            return OffsetTimes.compare(first, second);
+        }
+    }
 }
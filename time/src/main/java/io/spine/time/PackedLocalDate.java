@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * Utilities for working with {@link LocalDate} values packed into a primitive {@code int}.
+ *
+ * <p>The packed value holds the year in the upper 23 bits, the month number in the next
+ * four bits, and the day of the month in the lowest five bits. Such values sort in the same
+ * order as the dates they represent, so they can be compared as plain integers and stored
+ * in {@code int[]} columns.
+ *
+ * <p>All the operations work in the proleptic ISO calendar using integer arithmetic only.
+ */
+public final class PackedLocalDate {
+
+    /** The smallest year which can be packed. */
+    public static final int MIN_YEAR = -(1 << 22);
+
+    /** The greatest year which can be packed. */
+    public static final int MAX_YEAR = (1 << 22) - 1;
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int YEAR_SHIFT = DAY_BITS + MONTH_BITS;
+    private static final int DAY_MASK = (1 << DAY_BITS) - 1;
+    private static final int MONTH_MASK = (1 << MONTH_BITS) - 1;
+
+    /** The number of days in a 400-year cycle of the Gregorian calendar. */
+    private static final int DAYS_PER_CYCLE = 146_097;
+
+    /** The number of years in a cycle of the Gregorian calendar. */
+    private static final int YEARS_PER_CYCLE = 400;
+
+    /** The number of days from {@code 0000-03-01} to {@code 1970-01-01}. */
+    private static final int DAYS_0000_TO_1970 = 719_468;
+
+    /** The number of days in a week. */
+    private static final int DAYS_PER_WEEK = 7;
+
+    /** Prevent instantiation of this utility class. */
+    private PackedLocalDate() {
+    }
+
+    /**
+     * Packs the passed date.
+     *
+     * @throws IllegalArgumentException if the date is not valid or its year cannot be packed
+     */
+    public static int pack(LocalDate date) {
+        checkNotNull(date);
+        return pack(date.getYear(), date.getMonthValue(), date.getDay());
+    }
+
+    /**
+     * Packs the date with the passed year, month number, and day of the month.
+     *
+     * @throws IllegalArgumentException if the values do not form a valid date or the year
+     *                                  cannot be packed
+     */
+    public static int pack(int year, int month, int day) {
+        DtPreconditions.checkBounds(year, "year", MIN_YEAR, MAX_YEAR);
+        if (!LocalDateCodec.isValid(year, month, day)) {
+            throw newIllegalArgumentException("Invalid date: %d-%d-%d", year, month, day);
+        }
+        return packValid(year, month, day);
+    }
+
+    static int packValid(int year, int month, int day) {
+        return (year << YEAR_SHIFT) | (month << DAY_BITS) | day;
+    }
+
+    /**
+     * Converts the packed value into a {@code LocalDate}.
+     *
+     * @throws IllegalArgumentException if the packed value is not a valid date
+     */
+    public static LocalDate unpack(int packed) {
+        checkValid(packed);
+        return unpackValid(packed);
+    }
+
+    static LocalDate unpackValid(int packed) {
+        LocalDate result = LocalDate
+                .newBuilder()
+                .setYear(year(packed))
+                .setMonth(MonthOfYear.forNumber(month(packed)))
+                .setDay(day(packed))
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the year of the packed date.
+     */
+    public static int year(int packed) {
+        return packed >> YEAR_SHIFT;
+    }
+
+    /**
+     * Obtains the number of the month of the packed date, from 1 to 12.
+     */
+    public static int month(int packed) {
+        return (packed >>> DAY_BITS) & MONTH_MASK;
+    }
+
+    /**
+     * Obtains the month of the packed date.
+     *
+     * @throws IllegalArgumentException if the packed value is not a valid date
+     */
+    public static MonthOfYear monthOfYear(int packed) {
+        checkValid(packed);
+        return MonthOfYear.forNumber(month(packed));
+    }
+
+    /**
+     * Obtains the day of the month of the packed date.
+     */
+    public static int day(int packed) {
+        return packed & DAY_MASK;
+    }
+
+    /**
+     * Ensures that the fields of the packed value form a valid date.
+     *
+     * @throws IllegalArgumentException if the month or the day of the month is out of range
+     */
+    private static void checkValid(int packed) {
+        int year = year(packed);
+        int month = month(packed);
+        int day = day(packed);
+        if (!LocalDateCodec.isValid(year, month, day)) {
+            throw newIllegalArgumentException(
+                    "The packed value (%d) is not a valid date: %d-%d-%d.",
+                    packed, year, month, day);
+        }
+    }
+
+    /**
+     * Compares two packed dates.
+     *
+     * @return a negative value if the first date is earlier than the second, a positive
+     *         value if it is later, and zero if the dates are equal
+     */
+    public static int compare(int packed, int another) {
+        return Integer.compare(packed, another);
+    }
+
+    /**
+     * Obtains the packed date which is the given number of days later than the passed one.
+     *
+     * @param packed the packed date
+     * @param days   the number of days to add, may be negative
+     * @throws IllegalArgumentException if the resulting year cannot be packed
+     */
+    public static int plusDays(int packed, long days) {
+        if (days == 0) {
+            return packed;
+        }
+        long epochDay = Math.addExact(toEpochDay(packed), days);
+        return ofEpochDay(epochDay);
+    }
+
+    /**
+     * Obtains the number of days since {@code 1970-01-01} for the packed date.
+     */
+    public static long toEpochDay(int packed) {
+        return toEpochDay(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * Obtains the number of days since {@code 1970-01-01} for the passed date fields.
+     *
+     * <p>The fields are expected to form a valid date.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        if (CalendarTable.covers(year)) {
+            return CalendarTable.toEpochDay(year, month, day);
+        }
+        return computeEpochDay(year, month, day);
+    }
+
+    /**
+     * Calculates the number of days since {@code 1970-01-01} for the passed date fields
+     * without the {@linkplain CalendarTable precomputed data}.
+     */
+    static long computeEpochDay(int year, int month, int day) {
+        // Count years from March, so that the leap day is the last day of a year.
+        long y = month <= 2 ? year - 1L : year;
+        long cycle = floorDiv(y, YEARS_PER_CYCLE);
+        long yearOfCycle = y - cycle * YEARS_PER_CYCLE;
+        int monthFromMarch = month > 2 ? month - 3 : month + 9;
+        long dayOfYear = (153 * monthFromMarch + 2) / 5 + day - 1;
+        long dayOfCycle = yearOfCycle * 365 + yearOfCycle / 4 - yearOfCycle / 100 + dayOfYear;
+        return cycle * DAYS_PER_CYCLE + dayOfCycle - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Obtains the packed date by the number of days since {@code 1970-01-01}.
+     *
+     * @throws IllegalArgumentException if the year of the date cannot be packed
+     */
+    public static int ofEpochDay(long epochDay) {
+        if (CalendarTable.coversEpochDay(epochDay)) {
+            return CalendarTable.packEpochDay(epochDay);
+        }
+        long dayFromMarch0000 = epochDay + DAYS_0000_TO_1970;
+        long cycle = floorDiv(dayFromMarch0000, DAYS_PER_CYCLE);
+        long dayOfCycle = dayFromMarch0000 - cycle * DAYS_PER_CYCLE;
+        long yearOfCycle = (dayOfCycle
+                - dayOfCycle / 1460
+                + dayOfCycle / 36524
+                - dayOfCycle / (DAYS_PER_CYCLE - 1)) / 365;
+        long dayOfYear = dayOfCycle - (365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100);
+        int monthFromMarch = (int) ((5 * dayOfYear + 2) / 153);
+        int day = (int) (dayOfYear - (153 * monthFromMarch + 2) / 5 + 1);
+        int month = monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+        long year = yearOfCycle + cycle * YEARS_PER_CYCLE + (month <= 2 ? 1 : 0);
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw newIllegalArgumentException("The epoch day (%d) is out of supported range.",
+                                              epochDay);
+        }
+        return packValid((int) year, month, day);
+    }
+
+    /**
+     * Obtains the day of the week of the packed date.
+     *
+     * @return the ISO 8601 number of the day, from 1 (Monday) to 7 (Sunday)
+     */
+    public static int dayOfWeek(int packed) {
+        return dayOfWeekOfEpochDay(toEpochDay(packed));
+    }
+
+    /**
+     * Obtains the day of the week of the date with the passed number of days
+     * since {@code 1970-01-01}.
+     *
+     * @return the ISO 8601 number of the day, from 1 (Monday) to 7 (Sunday)
+     */
+    static int dayOfWeekOfEpochDay(long epochDay) {
+        // 1970-01-01 is Thursday.
+        return (int) floorMod(epochDay + 3, DAYS_PER_WEEK) + 1;
+    }
+}
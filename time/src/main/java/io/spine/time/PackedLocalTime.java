@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Duration;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static java.lang.Math.floorMod;
+
+/**
+ * Utilities for working with {@link LocalTime} values packed into a primitive {@code long}
+ * holding the number of nanoseconds since midnight.
+ *
+ * <p>Packed values sort in the same order as the times they represent, so they can be
+ * compared as plain numbers. Arithmetic operations wrap around midnight in the same way as
+ * {@link java.time.LocalTime#plus(java.time.Duration) java.time.LocalTime} does.
+ */
+public final class PackedLocalTime {
+
+    /** The number of nanoseconds in a day. */
+    public static final long NANOS_PER_DAY = (long) SECONDS_PER_DAY * NANOS_PER_SECOND;
+
+    private static final long NANOS_PER_MINUTE = (long) SECONDS_PER_MINUTE * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = (long) SECONDS_PER_HOUR * NANOS_PER_SECOND;
+
+    /** Prevent instantiation of this utility class. */
+    private PackedLocalTime() {
+    }
+
+    /**
+     * Packs the passed time.
+     *
+     * @throws IllegalArgumentException if one of the fields of the time is out of bounds
+     */
+    public static long pack(LocalTime time) {
+        checkNotNull(time);
+        return pack(time.getHour(), time.getMinute(), time.getSecond(), time.getNano());
+    }
+
+    /**
+     * Packs the time with the passed hours, minutes, seconds, and nanoseconds.
+     *
+     * @throws IllegalArgumentException if one of the values is out of bounds
+     */
+    public static long pack(int hours, int minutes, int seconds, int nanos) {
+        LocalTimes.Parameter.HOURS.check(hours);
+        LocalTimes.Parameter.MINUTES.check(minutes);
+        LocalTimes.Parameter.SECONDS.check(seconds);
+        LocalTimes.Parameter.NANOS.check(nanos);
+        return hours * NANOS_PER_HOUR
+                + minutes * NANOS_PER_MINUTE
+                + (long) seconds * NANOS_PER_SECOND
+                + nanos;
+    }
+
+    /**
+     * Converts the packed value into a {@code LocalTime}.
+     */
+    public static LocalTime unpack(long nanoOfDay) {
+        LocalTime result = LocalTime
+                .newBuilder()
+                .setHour(hour(nanoOfDay))
+                .setMinute(minute(nanoOfDay))
+                .setSecond(second(nanoOfDay))
+                .setNano(nano(nanoOfDay))
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the hour of the packed time.
+     */
+    public static int hour(long nanoOfDay) {
+        return (int) (nanoOfDay / NANOS_PER_HOUR);
+    }
+
+    /**
+     * Obtains the minute of the packed time.
+     */
+    public static int minute(long nanoOfDay) {
+        return (int) ((nanoOfDay % NANOS_PER_HOUR) / NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Obtains the second of the packed time.
+     */
+    public static int second(long nanoOfDay) {
+        return (int) ((nanoOfDay % NANOS_PER_MINUTE) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Obtains the nanosecond of the packed time.
+     */
+    public static int nano(long nanoOfDay) {
+        return (int) (nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Compares two packed times.
+     *
+     * @return a negative value if the first time is earlier than the second, a positive
+     *         value if it is later, and zero if the times are equal
+     */
+    public static int compare(long nanoOfDay, long another) {
+        return Long.compare(nanoOfDay, another);
+    }
+
+    /**
+     * Adds the passed number of nanoseconds wrapping around midnight.
+     *
+     * @param nanoOfDay the packed time
+     * @param nanos     the number of nanoseconds to add, may be negative
+     * @return the packed time
+     */
+    public static long plusNanos(long nanoOfDay, long nanos) {
+        return floorMod(nanoOfDay + nanos % NANOS_PER_DAY, NANOS_PER_DAY);
+    }
+
+    /**
+     * Adds the passed duration wrapping around midnight.
+     *
+     * <p>The duration may have any length. Whole days of it do not change the result.
+     *
+     * @param nanoOfDay the packed time
+     * @param duration  the duration to add, may be negative
+     * @return the packed time
+     */
+    public static long plus(long nanoOfDay, Duration duration) {
+        checkNotNull(duration);
+        long secondsOfDay = floorMod(duration.getSeconds(), (long) SECONDS_PER_DAY);
+        long nanos = secondsOfDay * NANOS_PER_SECOND + duration.getNanos();
+        return plusNanos(nanoOfDay, nanos);
+    }
+
+    /**
+     * Subtracts the passed duration wrapping around midnight.
+     *
+     * @param nanoOfDay the packed time
+     * @param duration  the duration to subtract, may be negative
+     * @return the packed time
+     * @see #plus(long, Duration)
+     */
+    public static long minus(long nanoOfDay, Duration duration) {
+        checkNotNull(duration);
+        long secondsOfDay = floorMod(duration.getSeconds(), (long) SECONDS_PER_DAY);
+        long nanos = secondsOfDay * NANOS_PER_SECOND + duration.getNanos();
+        return plusNanos(nanoOfDay, -nanos);
+    }
+
+    /**
+     * Truncates the packed time to the passed unit.
+     *
+     * <p>For example, truncation of {@code 10:15:30.5} to {@link TimeUnit#MINUTES MINUTES}
+     * gives {@code 10:15}. Truncation to {@link TimeUnit#DAYS DAYS} gives midnight.
+     *
+     * @param nanoOfDay the packed time
+     * @param unit      the unit to truncate to
+     * @return the packed time
+     */
+    public static long truncate(long nanoOfDay, TimeUnit unit) {
+        checkNotNull(unit);
+        long unitNanos = unit.toNanos(1);
+        return nanoOfDay - nanoOfDay % unitNanos;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.annotation.Experimental;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EarthTime.SECONDS_PER_DAY;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * Utilities for grouping points in time into calendar buckets, such as
+ * "the hour at {@code +02:00}" or "the day at {@code -05:00}".
+ *
+ * <p>A bucket is identified by a {@code long} key, which is the number of whole
+ * {@linkplain Unit units} passed since {@code 1970-01-01T00:00} at the given offset till
+ * the start of the bucket. Weeks follow ISO 8601 and start on Monday, so the week bucket
+ * {@code 0} starts on {@code 1969-12-29}. The keys of consecutive buckets are consecutive
+ * numbers, and the keys sort in the same order as the buckets.
+ *
+ * <p>All the calculations use integer arithmetic only. Primitive values are expressed as
+ * the number of nanoseconds since the Unix epoch, as in {@link TimestampColumn}.
+ */
+@Experimental
+public final class TimeBuckets {
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    /** The number of days from Monday {@code 1969-12-29} to {@code 1970-01-01}. */
+    private static final int DAYS_FROM_MONDAY = 3;
+
+    private static final int EPOCH_YEAR = 1970;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /** Prevent instantiation of this utility class. */
+    private TimeBuckets() {
+    }
+
+    /**
+     * Obtains the key of the bucket which contains the passed point in time.
+     */
+    public static long bucketOf(Timestamp time, ZoneOffset zoneOffset, Unit unit) {
+        checkNotNull(time);
+        checkNotNull(zoneOffset);
+        checkNotNull(unit);
+        long localSeconds = time.getSeconds() + zoneOffset.getAmountSeconds();
+        return unit.bucketOf(localSeconds);
+    }
+
+    /**
+     * Obtains the key of the bucket which contains the passed point in time.
+     *
+     * @param epochNanos the number of nanoseconds since the Unix epoch
+     */
+    public static long bucketOf(long epochNanos, ZoneOffset zoneOffset, Unit unit) {
+        checkNotNull(zoneOffset);
+        checkNotNull(unit);
+        return unit.bucketOf(localSeconds(epochNanos, zoneOffset.getAmountSeconds()));
+    }
+
+    /**
+     * Obtains the keys of the buckets which contain the passed points in time.
+     *
+     * <p>The unit is resolved once for the whole array, and the loop over the values does not
+     * allocate any objects.
+     *
+     * @param epochNanos the numbers of nanoseconds since the Unix epoch
+     * @return a new array with the keys in the order of the passed values
+     */
+    public static long[] bucketsOf(long[] epochNanos, ZoneOffset zoneOffset, Unit unit) {
+        checkNotNull(epochNanos);
+        checkNotNull(zoneOffset);
+        checkNotNull(unit);
+        long[] result = new long[epochNanos.length];
+        unit.fill(epochNanos, zoneOffset.getAmountSeconds(), result);
+        return result;
+    }
+
+    /**
+     * Obtains the point in time at which the bucket with the passed key starts.
+     *
+     * @throws IllegalArgumentException if the start of the bucket cannot be represented
+     *                                  by a {@code Timestamp}
+     * @throws ArithmeticException      if the key is too far from zero
+     */
+    public static Timestamp bucketStart(long bucket, ZoneOffset zoneOffset, Unit unit) {
+        checkNotNull(zoneOffset);
+        checkNotNull(unit);
+        long seconds = Math.subtractExact(unit.startOf(bucket), zoneOffset.getAmountSeconds());
+        Timestamp result = Timestamp
+                .newBuilder()
+                .setSeconds(seconds)
+                .build();
+        return Timestamps.checkValid(result);
+    }
+
+    /**
+     * Obtains the start of the bucket which contains the passed point in time.
+     *
+     * <p>For example, truncating {@code 2018-07-20T14:35:10+02:00} to {@link Unit#DAY DAY}
+     * at {@code +02:00} gives {@code 2018-07-20T00:00+02:00}.
+     */
+    public static Timestamp truncate(Timestamp time, ZoneOffset zoneOffset, Unit unit) {
+        long bucket = bucketOf(time, zoneOffset, unit);
+        return bucketStart(bucket, zoneOffset, unit);
+    }
+
+    /**
+     * Obtains the start of the bucket which contains the passed point in time.
+     *
+     * @param epochNanos the number of nanoseconds since the Unix epoch
+     */
+    public static Timestamp truncate(long epochNanos, ZoneOffset zoneOffset, Unit unit) {
+        long bucket = bucketOf(epochNanos, zoneOffset, unit);
+        return bucketStart(bucket, zoneOffset, unit);
+    }
+
+    private static long localSeconds(long epochNanos, int offsetSeconds) {
+        return floorDiv(epochNanos, NANOS_PER_SECOND) + offsetSeconds;
+    }
+
+    private static long monthOf(long epochDay) {
+        int packed = PackedLocalDate.ofEpochDay(epochDay);
+        int year = PackedLocalDate.year(packed);
+        int month = PackedLocalDate.month(packed);
+        return (year - (long) EPOCH_YEAR) * MONTHS_PER_YEAR + month - 1;
+    }
+
+    /**
+     * The calendar unit which defines the length of a bucket.
+     */
+    public enum Unit {
+
+        MINUTE(SECONDS_PER_MINUTE, 0),
+
+        HOUR(SECONDS_PER_HOUR, 0),
+
+        DAY(SECONDS_PER_DAY, 0),
+
+        /**
+         * An ISO week which starts on Monday.
+         */
+        WEEK(SECONDS_PER_DAY * DAYS_PER_WEEK, SECONDS_PER_DAY * DAYS_FROM_MONDAY),
+
+        /**
+         * A calendar month, which varies in length.
+         */
+        MONTH(0, 0) {
+            @Override
+            long bucketOf(long localSeconds) {
+                long epochDay = floorDiv(localSeconds, SECONDS_PER_DAY);
+                return monthOf(epochDay);
+            }
+
+            /**
+             * Obtains the bucket keys month by month, reusing the key obtained for the previous
+             * value if the day is the same.
+             */
+            @Override
+            void fill(long[] epochNanos, int offsetSeconds, long[] buckets) {
+                long lastDay = Long.MIN_VALUE;
+                long lastBucket = 0;
+                for (int i = 0; i < epochNanos.length; i++) {
+                    long epochDay = floorDiv(localSeconds(epochNanos[i], offsetSeconds),
+                                             SECONDS_PER_DAY);
+                    if (epochDay != lastDay) {
+                        lastDay = epochDay;
+                        lastBucket = monthOf(epochDay);
+                    }
+                    buckets[i] = lastBucket;
+                }
+            }
+
+            @Override
+            long startOf(long bucket) {
+                long year = EPOCH_YEAR + floorDiv(bucket, MONTHS_PER_YEAR);
+                int month = (int) floorMod(bucket, MONTHS_PER_YEAR) + 1;
+                long epochDay = PackedLocalDate.toEpochDay(Math.toIntExact(year), month, 1);
+                return Math.multiplyExact(epochDay, SECONDS_PER_DAY);
+            }
+        };
+
+        /** The length of the unit in seconds, or zero if the length varies. */
+        private final long length;
+
+        /** The number of seconds from the start of the bucket {@code 0} to the epoch. */
+        private final long shift;
+
+        Unit(long length, long shift) {
+            this.length = length;
+            this.shift = shift;
+        }
+
+        /**
+         * Obtains the key of the bucket which contains the local time expressed as
+         * the number of seconds since {@code 1970-01-01T00:00}.
+         */
+        long bucketOf(long localSeconds) {
+            return floorDiv(localSeconds + shift, length);
+        }
+
+        /**
+         * Fills the passed array with the keys of the buckets of the passed points in time.
+         */
+        void fill(long[] epochNanos, int offsetSeconds, long[] buckets) {
+            long length = this.length;
+            long shift = this.shift + offsetSeconds;
+            for (int i = 0; i < epochNanos.length; i++) {
+                long localSeconds = floorDiv(epochNanos[i], NANOS_PER_SECOND) + shift;
+                buckets[i] = floorDiv(localSeconds, length);
+            }
+        }
+
+        /**
+         * Obtains the local time at which the bucket starts, expressed as the number of
+         * seconds since {@code 1970-01-01T00:00}.
+         */
+        long startOf(long bucket) {
+            return Math.subtractExact(Math.multiplyExact(bucket, length), shift);
+        }
+    }
+}
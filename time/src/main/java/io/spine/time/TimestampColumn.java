@@ -0,0 +1,333 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.unsupported;
+
+/**
+ * A column of points in time stored as primitive numbers of nanoseconds since the Unix epoch.
+ *
+ * <p>The column takes eight bytes per value instead of a {@link Timestamp} message per value.
+ * The values are converted from and to {@code Timestamp}s only when they are added or
+ * obtained from the column.
+ *
+ * <p>Once {@linkplain #sort() sorted}, the column supports binary search and range queries.
+ * The queries return {@linkplain #slice(int, int) slices} of the column which share its
+ * storage. A slice is read-only. Like a {@link java.util.List#subList(int, int) subList},
+ * a slice is not guaranteed to reflect the column after the column is modified.
+ *
+ * <p>Since epoch nanoseconds are stored as {@code long}s, only points in time between
+ * the years 1678 and 2261 can be put into a column.
+ *
+ * <p>The class is not thread-safe.
+ */
+public final class TimestampColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private final int offset;
+    private int size;
+    private boolean sorted;
+    private final boolean readOnly;
+
+    private TimestampColumn(long[] values, int offset, int size, boolean sorted,
+                            boolean readOnly) {
+        this.values = values;
+        this.offset = offset;
+        this.size = size;
+        this.sorted = sorted;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Creates a new empty column.
+     */
+    public static TimestampColumn newInstance() {
+        return withCapacity(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty column which can hold the given number of values without
+     * reallocating its storage.
+     */
+    public static TimestampColumn withCapacity(int capacity) {
+        checkArgument(capacity >= 0, "The capacity must not be negative.");
+        return new TimestampColumn(new long[capacity], 0, 0, true, false);
+    }
+
+    /**
+     * Creates a new column with the passed timestamps in the order of iteration.
+     *
+     * @throws ArithmeticException if a timestamp cannot be expressed in epoch nanoseconds
+     */
+    public static TimestampColumn of(Iterable<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        TimestampColumn result = newInstance();
+        result.appendAll(timestamps);
+        return result;
+    }
+
+    /**
+     * Creates a new column with a copy of the passed points in time.
+     *
+     * @param epochNanos the points in time in nanoseconds since the Unix epoch
+     */
+    public static TimestampColumn ofEpochNanos(long... epochNanos) {
+        checkNotNull(epochNanos);
+        TimestampColumn result = withCapacity(epochNanos.length);
+        for (long value : epochNanos) {
+            result.append(value);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the timestamp to the end of the column.
+     *
+     * @throws ArithmeticException           if the timestamp cannot be expressed in
+     *                                       epoch nanoseconds
+     * @throws UnsupportedOperationException if the column is a slice of another column
+     */
+    @CanIgnoreReturnValue
+    public TimestampColumn append(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return append(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Adds the point in time to the end of the column.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     * @throws UnsupportedOperationException if the column is a slice of another column
+     */
+    @CanIgnoreReturnValue
+    public TimestampColumn append(long epochNanos) {
+        checkWritable();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        if (size > 0 && values[size - 1] > epochNanos) {
+            sorted = false;
+        }
+        values[size] = epochNanos;
+        size++;
+        return this;
+    }
+
+    /**
+     * Adds the timestamps to the end of the column in the order of iteration.
+     *
+     * @throws ArithmeticException           if a timestamp cannot be expressed in
+     *                                       epoch nanoseconds
+     * @throws UnsupportedOperationException if the column is a slice of another column
+     */
+    @CanIgnoreReturnValue
+    public TimestampColumn appendAll(Iterable<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        for (Timestamp timestamp : timestamps) {
+            append(timestamp);
+        }
+        return this;
+    }
+
+    /**
+     * Sorts the values of the column in ascending order.
+     *
+     * @throws UnsupportedOperationException if the column is a slice of another column
+     */
+    @CanIgnoreReturnValue
+    public TimestampColumn sort() {
+        checkWritable();
+        if (!sorted) {
+            Arrays.sort(values, 0, size);
+            sorted = true;
+        }
+        return this;
+    }
+
+    /**
+     * Tells if the values of the column are in ascending order.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Obtains the number of values in the column.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells if the column has no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtains the value at the given position as a {@code Timestamp}.
+     */
+    public Timestamp get(int index) {
+        return Timestamps.fromNanos(getEpochNanos(index));
+    }
+
+    /**
+     * Obtains the value at the given position in nanoseconds since the Unix epoch.
+     */
+    public long getEpochNanos(int index) {
+        checkElementIndex(index, size);
+        return values[offset + index];
+    }
+
+    /**
+     * Obtains the position of the first value which is not before the passed timestamp.
+     *
+     * @return the found position, or the size of the column if all values are before
+     *         the timestamp
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int lowerBound(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return lowerBound(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Obtains the position of the first value which is not before the passed point in time.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     * @return the found position, or the size of the column if all values are before
+     *         the point
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int lowerBound(long epochNanos) {
+        checkSorted();
+        return TimestampSearch.lowerBound(values, offset, offset + size, epochNanos) - offset;
+    }
+
+    /**
+     * Obtains the position of the first value which is after the passed timestamp.
+     *
+     * @return the found position, or the size of the column if no value is after
+     *         the timestamp
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int upperBound(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return upperBound(Timestamps.toNanos(timestamp));
+    }
+
+    /**
+     * Obtains the position of the first value which is after the passed point in time.
+     *
+     * @param epochNanos the point in time in nanoseconds since the Unix epoch
+     * @return the found position, or the size of the column if no value is after the point
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int upperBound(long epochNanos) {
+        checkSorted();
+        return TimestampSearch.upperBound(values, offset, offset + size, epochNanos) - offset;
+    }
+
+    /**
+     * Obtains a read-only view of the values within the given positions.
+     *
+     * @param from the first position, inclusive
+     * @param to   the last position, exclusive
+     */
+    public TimestampColumn slice(int from, int to) {
+        checkPositionIndexes(from, to, size);
+        return new TimestampColumn(values, offset + from, to - from, sorted, true);
+    }
+
+    /**
+     * Obtains a view of the values which are between the {@code start} and {@code finish}.
+     *
+     * <p>The bounds are excluded, in the same way as in
+     * {@link Timestamps2#isBetween(Timestamp, Timestamp, Timestamp) Timestamps2.isBetween()}.
+     *
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public TimestampColumn between(Timestamp start, Timestamp finish) {
+        checkNotNull(start);
+        checkNotNull(finish);
+        int from = upperBound(start);
+        int to = Math.max(from, lowerBound(finish));
+        return slice(from, to);
+    }
+
+    /**
+     * Obtains a view of the values which are within the interval.
+     *
+     * <p>The interval is closed, in the same way as in
+     * {@link Intervals#contains(Interval, Timestamp) Intervals.contains()}.
+     *
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public TimestampColumn within(Interval interval) {
+        checkNotNull(interval);
+        int from = lowerBound(interval.getStart());
+        int to = Math.max(from, upperBound(interval.getEnd()));
+        return slice(from, to);
+    }
+
+    /**
+     * Converts the values of the column into {@code Timestamp}s.
+     */
+    public ImmutableList<Timestamp> toList() {
+        ImmutableList.Builder<Timestamp> result = ImmutableList.builder();
+        for (int i = offset, end = offset + size; i < end; i++) {
+            result.add(Timestamps.fromNanos(values[i]));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains a copy of the values of the column in nanoseconds since the Unix epoch.
+     */
+    public long[] toEpochNanos() {
+        return Arrays.copyOfRange(values, offset, offset + size);
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw unsupported("A slice of a column cannot be modified.");
+        }
+    }
+
+    private void checkSorted() {
+        checkState(sorted, "The column must be sorted.");
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+/**
+ * Sorts {@link Timestamp}s by a least significant digit radix sort over primitive keys.
+ *
+ * <p>The seconds and the nanos of each timestamp are extracted once. If the seconds of all
+ * the timestamps fit into a span of 2<sup>34</sup> seconds (more than five centuries),
+ * both parts are packed into a single {@code long} key. Otherwise, the timestamps are sorted
+ * by the nanos first, and then by the seconds, relying on the stability of the sort.
+ *
+ * <p>The sort makes a pass per byte of the keys, skipping the bytes which are the same in all
+ * the keys. The result is a permutation of the indexes of the input.
+ */
+final class TimestampRadixSort {
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private static final int NANOS_BITS = 30;
+    private static final int PACKED_SECONDS_BITS = Long.SIZE - NANOS_BITS;
+
+    /** The number of values below which the parallel sort falls back to the sequential one. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** The smallest number of values processed by one parallel task. */
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private final long[] seconds;
+    private final int[] nanos;
+    private final int size;
+    private final int chunks;
+    private final @Nullable ForkJoinPool pool;
+
+    private TimestampRadixSort(int size, int chunks, @Nullable ForkJoinPool pool) {
+        this.size = size;
+        this.chunks = chunks;
+        this.pool = pool;
+        this.seconds = new long[size];
+        this.nanos = new int[size];
+    }
+
+    /**
+     * Obtains the indexes of the timestamps in the order of the sorted timestamps.
+     */
+    static int[] permutation(List<Timestamp> timestamps) {
+        TimestampRadixSort sort = new TimestampRadixSort(timestamps.size(), 1, null);
+        return sort.run(timestamps);
+    }
+
+    /**
+     * Obtains the indexes of the timestamps in the order of the sorted timestamps splitting
+     * the work between the tasks of the passed pool.
+     */
+    static int[] parallelPermutation(List<Timestamp> timestamps, ForkJoinPool pool) {
+        int size = timestamps.size();
+        if (size < PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            return permutation(timestamps);
+        }
+        int chunks = Math.min(pool.getParallelism() * 4, size / MIN_CHUNK);
+        TimestampRadixSort sort = new TimestampRadixSort(size, chunks, pool);
+        return sort.run(timestamps);
+    }
+
+    private int[] run(List<Timestamp> timestamps) {
+        int[] permutation = new int[size];
+        if (size == 0) {
+            return permutation;
+        }
+        forEachChunk(chunk -> extract(timestamps, chunk, permutation));
+        long minSeconds = Long.MAX_VALUE;
+        long maxSeconds = Long.MIN_VALUE;
+        for (long value : seconds) {
+            minSeconds = Math.min(minSeconds, value);
+            maxSeconds = Math.max(maxSeconds, value);
+        }
+        long span = maxSeconds - minSeconds;
+        long[] keys = new long[size];
+        long base = minSeconds;
+        if (span < (1L << PACKED_SECONDS_BITS)) {
+            forEachChunk(chunk -> {
+                for (int i = start(chunk), end = end(chunk); i < end; i++) {
+                    keys[i] = (seconds[i] - base) << NANOS_BITS | nanos[i];
+                }
+            });
+            sortByKeys(keys, permutation, Long.SIZE);
+        } else {
+            forEachChunk(chunk -> {
+                for (int i = start(chunk), end = end(chunk); i < end; i++) {
+                    keys[i] = nanos[i];
+                }
+            });
+            sortByKeys(keys, permutation, NANOS_BITS);
+            forEachChunk(chunk -> {
+                for (int i = start(chunk), end = end(chunk); i < end; i++) {
+                    keys[i] = seconds[permutation[i]] - base;
+                }
+            });
+            sortByKeys(keys, permutation, Long.SIZE - Long.numberOfLeadingZeros(span));
+        }
+        return permutation;
+    }
+
+    private void extract(List<Timestamp> timestamps, int chunk, int[] permutation) {
+        for (int i = start(chunk), end = end(chunk); i < end; i++) {
+            Timestamp timestamp = Timestamps.checkValid(timestamps.get(i));
+            seconds[i] = timestamp.getSeconds();
+            nanos[i] = timestamp.getNanos();
+            permutation[i] = i;
+        }
+    }
+
+    /**
+     * Stably sorts the keys and the permutation by the given number of lower bits of the keys.
+     */
+    private void sortByKeys(long[] keys, int[] permutation, int bits) {
+        long[] keysBuffer = new long[size];
+        int[] permutationBuffer = new int[size];
+        long[] sourceKeys = keys;
+        int[] sourcePermutation = permutation;
+        long[] targetKeys = keysBuffer;
+        int[] targetPermutation = permutationBuffer;
+        int[][] offsets = new int[chunks][RADIX];
+        for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+            if (!countDigits(sourceKeys, shift, offsets)) {
+                continue;
+            }
+            long[] fromKeys = sourceKeys;
+            int[] fromPermutation = sourcePermutation;
+            long[] toKeys = targetKeys;
+            int[] toPermutation = targetPermutation;
+            int digitShift = shift;
+            forEachChunk(chunk -> {
+                int[] chunkOffsets = offsets[chunk];
+                for (int i = start(chunk), end = end(chunk); i < end; i++) {
+                    long key = fromKeys[i];
+                    int position = chunkOffsets[(int) (key >>> digitShift) & DIGIT_MASK]++;
+                    toKeys[position] = key;
+                    toPermutation[position] = fromPermutation[i];
+                }
+            });
+            sourceKeys = toKeys;
+            sourcePermutation = toPermutation;
+            targetKeys = fromKeys;
+            targetPermutation = fromPermutation;
+        }
+        if (sourcePermutation != permutation) {
+            System.arraycopy(sourceKeys, 0, keys, 0, size);
+            System.arraycopy(sourcePermutation, 0, permutation, 0, size);
+        }
+    }
+
+    /**
+     * Calculates the positions each chunk starts writing the keys with each digit from.
+     *
+     * @return {@code false} if all the keys have the same digit, so the pass can be skipped,
+     *         {@code true} otherwise
+     */
+    private boolean countDigits(long[] keys, int shift, int[][] offsets) {
+        forEachChunk(chunk -> {
+            int[] counts = offsets[chunk];
+            Arrays.fill(counts, 0);
+            for (int i = start(chunk), end = end(chunk); i < end; i++) {
+                counts[(int) (keys[i] >>> shift) & DIGIT_MASK]++;
+            }
+        });
+        int position = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int digitStart = position;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int count = offsets[chunk][digit];
+                offsets[chunk][digit] = position;
+                position += count;
+            }
+            if (position - digitStart == size) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int start(int chunk) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    private int end(int chunk) {
+        return start(chunk + 1);
+    }
+
+    private void forEachChunk(IntConsumer action) {
+        if (pool == null) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                action.accept(chunk);
+            }
+        } else {
+            pool.invoke(new ChunkTask(0, chunks, action));
+        }
+    }
+}
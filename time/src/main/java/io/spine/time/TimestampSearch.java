@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+
+/**
+ * Searches and filters columns of points in time against closed ranges.
+ *
+ * <p>A column is either an array of nanoseconds since the Unix epoch or a list of
+ * {@link Timestamp}s. The lists are expected to provide fast random access.
+ *
+ * <p>Timestamps are compared by their fields without validation, so that a tight loop
+ * does not spend time on checks which are already made when the values are created.
+ */
+final class TimestampSearch {
+
+    /** Prevent instantiation of this utility class. */
+    private TimestampSearch() {
+    }
+
+    /**
+     * Obtains the index of the first element within {@code [from, to)} which is not less than
+     * the {@code key}, or {@code to} if there is no such element.
+     */
+    static int lowerBound(long[] sorted, int from, int to, long key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Obtains the index of the first element within {@code [from, to)} which is greater than
+     * the {@code key}, or {@code to} if there is no such element.
+     */
+    static int upperBound(long[] sorted, int from, int to, long key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Obtains the index of the first element which is not before the {@code key}, or
+     * the size of the list if there is no such element.
+     */
+    static int lowerBound(List<Timestamp> sorted, Timestamp key) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(sorted.get(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Obtains the index of the first element which is after the {@code key}, or
+     * the size of the list if there is no such element.
+     */
+    static int upperBound(List<Timestamp> sorted, Timestamp key) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(sorted.get(middle), key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Obtains the indexes of the values which belong to the closed range {@code [min, max]}.
+     */
+    static BitSet select(long[] values, long min, long max) {
+        int length = values.length;
+        long[] words = new long[(length + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < length; i++) {
+            long value = values[i];
+            if (value >= min && value <= max) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Obtains the indexes of the values which belong to the closed range {@code [min, max]}.
+     */
+    static BitSet select(List<Timestamp> values, Timestamp min, Timestamp max) {
+        long minSeconds = min.getSeconds();
+        int minNanos = min.getNanos();
+        long maxSeconds = max.getSeconds();
+        int maxNanos = max.getNanos();
+        int size = values.size();
+        long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < size; i++) {
+            Timestamp value = values.get(i);
+            long seconds = value.getSeconds();
+            int nanos = value.getNanos();
+            boolean notBefore = seconds > minSeconds
+                    || (seconds == minSeconds && nanos >= minNanos);
+            boolean notAfter = seconds < maxSeconds
+                    || (seconds == maxSeconds && nanos <= maxNanos);
+            if (notBefore && notAfter) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Compares two timestamps by their fields.
+     */
+    static int compare(Timestamp first, Timestamp second) {
+        int result = Long.compare(first.getSeconds(), second.getSeconds());
+        if (result == 0) {
+            result = Integer.compare(first.getNanos(), second.getNanos());
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the timestamp which is one nanosecond after the passed one.
+     */
+    static Timestamp nextNano(Timestamp timestamp) {
+        int nanos = timestamp.getNanos() + 1;
+        long seconds = timestamp.getSeconds();
+        if (nanos == NANOS_PER_SECOND) {
+            nanos = 0;
+            seconds++;
+        }
+        return Timestamp.newBuilder()
+                        .setSeconds(seconds)
+                        .setNanos(nanos)
+                        .build();
+    }
+
+    /**
+     * Obtains the timestamp which is one nanosecond before the passed one.
+     */
+    static Timestamp previousNano(Timestamp timestamp) {
+        int nanos = timestamp.getNanos() - 1;
+        long seconds = timestamp.getSeconds();
+        if (nanos < 0) {
+            nanos = NANOS_PER_SECOND - 1;
+            seconds--;
+        }
+        return Timestamp.newBuilder()
+                        .setSeconds(seconds)
+                        .setNanos(nanos)
+                        .build();
+    }
+}
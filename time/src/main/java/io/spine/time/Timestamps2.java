@@ -19,8 +19,16 @@
  */
 package io.spine.time;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.util.Timestamps.compare;
 
 /**
@@ -64,4 +72,176 @@ public final class Timestamps2 {
         final boolean isAfter = compare(timestamp, thanTime) > 0;
         return isAfter;
     }
+
+    /**
+     * Finds the points in time of a sorted column which are between the {@code start} and
+     * {@code finish} timestamps.
+     *
+     * <p>The bounds are excluded, in the same way as in
+     * {@link #isBetween(Timestamp, Timestamp, Timestamp) isBetween()}. The matching points are
+     * found by binary search.
+     *
+     * @param start            the first point in time, exclusive
+     * @param finish           the second point in time, exclusive
+     * @param sortedEpochNanos the points in time in nanoseconds since the Unix epoch
+     *                         sorted in ascending order
+     * @return the range of indexes of the matching points
+     * @throws ArithmeticException if a bound cannot be expressed in epoch nanoseconds
+     */
+    public static Range<Integer> indexRangeBetween(Timestamp start, Timestamp finish,
+                                                   long[] sortedEpochNanos) {
+        checkNotNull(start);
+        checkNotNull(finish);
+        checkNotNull(sortedEpochNanos);
+        long startNanos = Timestamps.toNanos(start);
+        long finishNanos = Timestamps.toNanos(finish);
+        int length = sortedEpochNanos.length;
+        int from = TimestampSearch.upperBound(sortedEpochNanos, 0, length, startNanos);
+        int to = TimestampSearch.lowerBound(sortedEpochNanos, from, length, finishNanos);
+        return Range.closedOpen(from, Math.max(from, to));
+    }
+
+    /**
+     * Finds the timestamps of a sorted list which are between the {@code start} and
+     * {@code finish} timestamps.
+     *
+     * <p>The bounds are excluded, in the same way as in
+     * {@link #isBetween(Timestamp, Timestamp, Timestamp) isBetween()}. The matching timestamps
+     * are found by binary search, so the list should provide fast random access.
+     *
+     * @param start            the first point in time, exclusive
+     * @param finish           the second point in time, exclusive
+     * @param sortedTimestamps the timestamps sorted in ascending order
+     * @return the range of indexes of the matching timestamps
+     */
+    public static Range<Integer> indexRangeBetween(Timestamp start, Timestamp finish,
+                                                   List<Timestamp> sortedTimestamps) {
+        checkNotNull(start);
+        checkNotNull(finish);
+        checkNotNull(sortedTimestamps);
+        int from = TimestampSearch.upperBound(sortedTimestamps, start);
+        int to = TimestampSearch.lowerBound(sortedTimestamps, finish);
+        return Range.closedOpen(from, Math.max(from, to));
+    }
+
+    /**
+     * Finds the points in time of an unordered column which are between the {@code start} and
+     * {@code finish} timestamps.
+     *
+     * <p>The bounds are excluded, in the same way as in
+     * {@link #isBetween(Timestamp, Timestamp, Timestamp) isBetween()}.
+     *
+     * @param start      the first point in time, exclusive
+     * @param finish     the second point in time, exclusive
+     * @param epochNanos the points in time in nanoseconds since the Unix epoch
+     * @return the set of indexes of the matching points
+     * @throws ArithmeticException if a bound cannot be expressed in epoch nanoseconds
+     */
+    public static BitSet indexesBetween(Timestamp start, Timestamp finish, long[] epochNanos) {
+        checkNotNull(start);
+        checkNotNull(finish);
+        checkNotNull(epochNanos);
+        long startNanos = Timestamps.toNanos(start);
+        long finishNanos = Timestamps.toNanos(finish);
+        if (startNanos == Long.MAX_VALUE || finishNanos == Long.MIN_VALUE) {
+            return new BitSet();
+        }
+        return TimestampSearch.select(epochNanos, startNanos + 1, finishNanos - 1);
+    }
+
+    /**
+     * Finds the timestamps of an unordered list which are between the {@code start} and
+     * {@code finish} timestamps.
+     *
+     * <p>The bounds are excluded, in the same way as in
+     * {@link #isBetween(Timestamp, Timestamp, Timestamp) isBetween()}.
+     *
+     * @param start      the first point in time, exclusive
+     * @param finish     the second point in time, exclusive
+     * @param timestamps the timestamps to check
+     * @return the set of indexes of the matching timestamps
+     */
+    public static BitSet indexesBetween(Timestamp start, Timestamp finish,
+                                        List<Timestamp> timestamps) {
+        checkNotNull(start);
+        checkNotNull(finish);
+        checkNotNull(timestamps);
+        return TimestampSearch.select(timestamps,
+                                      TimestampSearch.nextNano(start),
+                                      TimestampSearch.previousNano(finish));
+    }
+
+    /**
+     * Obtains the order of the passed timestamps.
+     *
+     * <p>The timestamps are sorted by a radix sort over primitive keys extracted from them,
+     * which for large lists is considerably faster than sorting the messages with
+     * {@link Timestamps#comparator()}. The sort is stable, i.e. equal timestamps keep
+     * their relative order.
+     *
+     * <p>The list should provide fast random access.
+     *
+     * @param timestamps the timestamps to sort
+     * @return the indexes of the timestamps in the list in the ascending order of the timestamps
+     * @throws IllegalArgumentException if one of the timestamps is not valid
+     */
+    public static int[] sortedPermutation(List<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        return TimestampRadixSort.permutation(timestamps);
+    }
+
+    /**
+     * Obtains the order of the passed timestamps using the
+     * {@linkplain ForkJoinPool#commonPool() common pool} to split the work.
+     *
+     * <p>Lists smaller than a few tens of thousands of elements are sorted in
+     * the calling thread.
+     *
+     * @param timestamps the timestamps to sort
+     * @return the indexes of the timestamps in the list in the ascending order of the timestamps
+     * @throws IllegalArgumentException if one of the timestamps is not valid
+     * @see #sortedPermutation(List)
+     */
+    public static int[] parallelSortedPermutation(List<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        return TimestampRadixSort.parallelPermutation(timestamps, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts the passed timestamps in the ascending order.
+     *
+     * @param timestamps the timestamps to sort
+     * @return a new list with the sorted timestamps
+     * @throws IllegalArgumentException if one of the timestamps is not valid
+     * @see #sortedPermutation(List)
+     */
+    public static ImmutableList<Timestamp> sorted(List<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        return permute(timestamps, TimestampRadixSort.permutation(timestamps));
+    }
+
+    /**
+     * Sorts the passed timestamps in the ascending order using the
+     * {@linkplain ForkJoinPool#commonPool() common pool} to split the work.
+     *
+     * @param timestamps the timestamps to sort
+     * @return a new list with the sorted timestamps
+     * @throws IllegalArgumentException if one of the timestamps is not valid
+     * @see #parallelSortedPermutation(List)
+     */
+    public static ImmutableList<Timestamp> parallelSorted(List<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        int[] permutation =
+                TimestampRadixSort.parallelPermutation(timestamps, ForkJoinPool.commonPool());
+        return permute(timestamps, permutation);
+    }
+
+    private static ImmutableList<Timestamp> permute(List<Timestamp> timestamps,
+                                                    int[] permutation) {
+        ImmutableList.Builder<Timestamp> result = ImmutableList.builder();
+        for (int index : permutation) {
+            result.add(timestamps.get(index));
+        }
+        return result.build();
+    }
 }
@@ -37,8 +37,19 @@ public class Years {
      *
      * @return {@code true} for a leap year, {@code false} otherwise
      */
-    @SuppressWarnings("MagicNumber") // The number is part of leap year calc.
     public static boolean isLeapYear(int year) {
+        if (CalendarTable.covers(year)) {
+            return CalendarTable.isLeapYear(year);
+        }
+        return computeLeapYear(year);
+    }
+
+    /**
+     * Tests whether the passed year is a leap one without the
+     * {@linkplain CalendarTable precomputed data}.
+     */
+    @SuppressWarnings("MagicNumber") // The number is part of leap year calc.
+    static boolean computeLeapYear(int year) {
         return (((year % 4) == 0) && ((year % 100) != 0)) || ((year % 400) == 0);
     }
 }
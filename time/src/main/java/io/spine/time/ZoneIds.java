@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+
+import java.time.DateTimeException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
+
+/**
+ * Utilities for working with {@link ZoneId}s.
+ *
+ * <p>The offsets of a time zone are obtained from a table of its transitions, which is built
+ * from the Java Time {@link java.time.zone.ZoneRules ZoneRules} when the zone is used for
+ * the first time and cached afterwards. Obtaining an offset of a zone is a hash lookup by
+ * the ID of the zone followed by a binary search over the instants of its transitions.
+ *
+ * @see ZoneOffsets
+ */
+public final class ZoneIds {
+
+    /** The transition tables by the IDs of the zones. */
+    private static final ConcurrentMap<String, ZoneTransitions> transitions =
+            new ConcurrentHashMap<>();
+
+    /** Prevent instantiation of this utility class. */
+    private ZoneIds() {
+    }
+
+    /**
+     * Obtains the ID of the default time zone of the Java virtual machine.
+     */
+    public static ZoneId systemDefault() {
+        return of(java.time.ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates an instance by the passed Java Time value.
+     */
+    public static ZoneId of(java.time.ZoneId zoneId) {
+        checkNotNull(zoneId);
+        ZoneId result = ZoneId
+                .newBuilder()
+                .setValue(zoneId.getId())
+                .build();
+        return result;
+    }
+
+    /**
+     * Creates an instance with the passed time zone ID, such as {@code Europe/Amsterdam}.
+     *
+     * @throws IllegalArgumentException if the ID is not known to Java Time
+     * @see java.time.ZoneId#of(String)
+     */
+    public static ZoneId of(String id) {
+        checkNotNull(id);
+        return of(parse(id));
+    }
+
+    /**
+     * Converts the passed value to Java Time instance.
+     *
+     * @throws IllegalArgumentException if the ID is not known to Java Time
+     */
+    public static java.time.ZoneId toJavaTime(ZoneId zoneId) {
+        checkNotNull(zoneId);
+        return parse(zoneId.getValue());
+    }
+
+    /**
+     * Obtains the offset of the passed time zone at the given point in time.
+     *
+     * @throws IllegalArgumentException if the ID of the zone is not known to Java Time
+     */
+    public static ZoneOffset offsetAt(ZoneId zoneId, Timestamp time) {
+        checkNotNull(time);
+        int seconds = transitionsOf(zoneId).offsetSecondsAt(time.getSeconds());
+        return ZoneOffsets.ofSeconds(seconds);
+    }
+
+    /**
+     * Obtains the table of offset transitions of the passed time zone.
+     *
+     * @throws IllegalArgumentException if the ID of the zone is not known to Java Time
+     */
+    static ZoneTransitions transitionsOf(ZoneId zoneId) {
+        checkNotNull(zoneId);
+        String id = zoneId.getValue();
+        ZoneTransitions cached = transitions.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        ZoneTransitions table = ZoneTransitions.of(parse(id).getRules());
+        ZoneTransitions previous = transitions.putIfAbsent(id, table);
+        return previous != null ? previous : table;
+    }
+
+    private static java.time.ZoneId parse(String id) {
+        try {
+            return java.time.ZoneId.of(id);
+        } catch (DateTimeException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.io.IOException;
+
+import static io.spine.time.EarthTime.MINUTES_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+
+/**
+ * Reads and writes zone offsets in the ISO 8601 {@code Z|+HH:MM[:SS]} format used by
+ * the {@linkplain java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME offset date/time}
+ * representation.
+ *
+ * <p>The output is the same as produced by {@link java.time.ZoneOffset#toString()}.
+ */
+final class ZoneOffsetCodec {
+
+    /** Returned by {@link #parse(CharSequence, int, int)} for an unrecognized offset. */
+    static final int INVALID = Integer.MIN_VALUE;
+
+    /** The greatest absolute value of an offset supported by Java Time. */
+    static final int MAX_SECONDS = 18 * SECONDS_PER_HOUR;
+
+    private static final char UTC = 'Z';
+    private static final char PLUS = '+';
+    private static final char MINUS = '-';
+    private static final char SEPARATOR = ':';
+
+    /** The length of the {@code +HH:MM} string. */
+    private static final int HH_MM = 6;
+
+    /** The length of the {@code +HH:MM:SS} string. */
+    private static final int HH_MM_SS = 9;
+
+    private static final int HOUR_START = 1;
+    private static final int MINUTE_START = 4;
+    private static final int SECOND_START = 7;
+    private static final int TWO_DIGITS = 2;
+
+    /** Prevent instantiation of this utility class. */
+    private ZoneOffsetCodec() {
+    }
+
+    /**
+     * Tells if the passed character may start an offset.
+     */
+    static boolean isOffsetStart(char c) {
+        return c == UTC || c == PLUS || c == MINUS;
+    }
+
+    /**
+     * Parses the offset located in the passed range of the sequence.
+     *
+     * @param str   the sequence to parse
+     * @param start the index of the first character of the offset, inclusive
+     * @param end   the index of the last character of the offset, exclusive
+     * @return the amount of seconds of the offset, or {@link #INVALID} if the range does not
+     *         contain a valid offset
+     */
+    static int parse(CharSequence str, int start, int end) {
+        int length = end - start;
+        if (length == 1 && str.charAt(start) == UTC) {
+            return 0;
+        }
+        if (length != HH_MM && length != HH_MM_SS) {
+            return INVALID;
+        }
+        char sign = str.charAt(start);
+        if ((sign != PLUS && sign != MINUS) || str.charAt(start + MINUTE_START - 1) != SEPARATOR) {
+            return INVALID;
+        }
+        int hours = Digits.read(str, start + HOUR_START, TWO_DIGITS);
+        int minutes = Digits.read(str, start + MINUTE_START, TWO_DIGITS);
+        int seconds = 0;
+        if (length == HH_MM_SS) {
+            if (str.charAt(start + SECOND_START - 1) != SEPARATOR) {
+                return INVALID;
+            }
+            seconds = Digits.read(str, start + SECOND_START, TWO_DIGITS);
+        }
+        if (hours < 0
+                || minutes < 0 || minutes >= MINUTES_PER_HOUR
+                || seconds < 0 || seconds >= SECONDS_PER_MINUTE) {
+            return INVALID;
+        }
+        int total = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE + seconds;
+        if (total > MAX_SECONDS) {
+            return INVALID;
+        }
+        return sign == MINUS ? -total : total;
+    }
+
+    /**
+     * Tells if the passed amount of seconds is a valid zone offset.
+     */
+    static boolean isValid(int amountSeconds) {
+        return -MAX_SECONDS <= amountSeconds && amountSeconds <= MAX_SECONDS;
+    }
+
+    /**
+     * Appends the offset with the passed amount of seconds.
+     *
+     * @param amountSeconds the {@linkplain #isValid(int) valid} offset in seconds
+     * @param out           the target for the formatted value
+     */
+    static void append(int amountSeconds, Appendable out) throws IOException {
+        if (amountSeconds == 0) {
+            out.append(UTC);
+            return;
+        }
+        int absSeconds = Math.abs(amountSeconds);
+        int hours = absSeconds / SECONDS_PER_HOUR;
+        int minutes = (absSeconds / SECONDS_PER_MINUTE) % MINUTES_PER_HOUR;
+        int seconds = absSeconds % SECONDS_PER_MINUTE;
+        out.append(amountSeconds < 0 ? MINUS : PLUS);
+        Digits.append(hours, TWO_DIGITS, out);
+        out.append(SEPARATOR);
+        Digits.append(minutes, TWO_DIGITS, out);
+        if (seconds != 0) {
+            out.append(SEPARATOR);
+            Digits.append(seconds, TWO_DIGITS, out);
+        }
+    }
+}
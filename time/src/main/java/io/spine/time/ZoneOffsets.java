@@ -20,14 +20,15 @@
 
 package io.spine.time;
 
-import com.google.protobuf.Duration;
-
-import javax.annotation.Nullable;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.time.Durations2.hoursAndMinutes;
+import static io.spine.time.EarthTime.SECONDS_PER_HOUR;
+import static io.spine.time.EarthTime.SECONDS_PER_MINUTE;
+import static io.spine.time.ZoneOffsetCodec.MAX_SECONDS;
 import static io.spine.time.ZoneOffsets.Parameter.HOURS;
 import static io.spine.time.ZoneOffsets.Parameter.MINUTES;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
@@ -36,16 +37,30 @@ import static io.spine.util.Exceptions.unsupported;
 /**
  * Utilities for working with {@code ZoneOffset}s.
  *
+ * <p>All the methods creating offsets return shared instances for offsets that are whole
+ * quarters of an hour, which covers the offsets of all real-world time zones. Instances for
+ * other valid offsets are cached on first use.
+ *
  * @author Alexander Yevsyukov
  * @author Alexander Aleksandrov
  * @see ZoneOffset
  */
 public final class ZoneOffsets {
 
-    private static final ZoneOffset UTC = ZoneOffset
-            .newBuilder()
-            .setAmountSeconds(0)
-            .build();
+    private static final ZoneOffset UTC = newOffset(0);
+
+    /** The number of seconds in a quarter of an hour. */
+    private static final int QUARTER_HOUR = SECONDS_PER_HOUR / 4;
+
+    /**
+     * Offsets from {@code -18:00} to {@code +18:00} with the quarter of an hour step,
+     * in ascending order.
+     */
+    private static final ZoneOffset[] QUARTER_HOUR_OFFSETS = quarterHourOffsets();
+
+    /** Offsets which are not whole quarters of an hour, by the amount of seconds. */
+    private static final ConcurrentMap<Integer, ZoneOffset> otherOffsets =
+            new ConcurrentHashMap<>();
 
     /** Prevent instantiation of this utility class. */
     private ZoneOffsets() {
@@ -62,12 +77,38 @@ public final class ZoneOffsets {
      * Obtains a {@code ZoneOffset} instance using default {@code TimeZone} of the Java
      * virtual machine.
      *
+     * <p>The offset is cached until the default time zone changes, or until the next
+     * transition of the zone rules, such as a daylight saving time change.
+     *
      * @see TimeZone#getDefault()
+     * @see #addDefaultChangeListener(DefaultChangeListener)
      */
     public static ZoneOffset getDefault() {
-        java.time.ZoneOffset zo = java.time.OffsetTime.now()
-                                                      .getOffset();
-        return of(zo);
+        return DefaultZoneOffset.get();
+    }
+
+    /**
+     * Adds a listener to be notified when the {@linkplain #getDefault() default offset}
+     * changes.
+     *
+     * <p>A change is detected when the default offset is requested after the default time zone
+     * has been changed or a transition of its rules has passed. The listeners are notified in
+     * the thread which requested the offset, so they should return quickly. An exception thrown
+     * by a listener is logged and is not propagated to the caller of {@link #getDefault()}.
+     */
+    public static void addDefaultChangeListener(DefaultChangeListener listener) {
+        checkNotNull(listener);
+        DefaultZoneOffset.addListener(listener);
+    }
+
+    /**
+     * Removes the passed listener of the default offset changes.
+     *
+     * <p>Does nothing if the listener was not added.
+     */
+    public static void removeDefaultChangeListener(DefaultChangeListener listener) {
+        checkNotNull(listener);
+        DefaultZoneOffset.removeListener(listener);
     }
 
     /**
@@ -82,9 +123,7 @@ public final class ZoneOffsets {
      * Converts Java Time value to {@code ZoneOffset}.
      */
     public static ZoneOffset of(java.time.ZoneOffset zo) {
-        ZoneOffset.Builder result = ZoneOffset.newBuilder()
-                                              .setAmountSeconds(zo.getTotalSeconds());
-        return result.build();
+        return ofSeconds(zo.getTotalSeconds());
     }
 
     /**
@@ -92,10 +131,7 @@ public final class ZoneOffsets {
      */
     public static ZoneOffset ofHours(int hours) {
         HOURS.check(hours);
-
-        Duration hourDuration = Durations2.fromHours(hours);
-        int seconds = toSeconds(hourDuration);
-        return ofSeconds(seconds);
+        return ofSeconds(hours * SECONDS_PER_HOUR);
     }
 
     /**
@@ -107,7 +143,19 @@ public final class ZoneOffsets {
      * @return the instance for the passed offset
      */
     public static ZoneOffset ofSeconds(int seconds) {
-        return create(seconds, null);
+        if (seconds % QUARTER_HOUR == 0 && ZoneOffsetCodec.isValid(seconds)) {
+            return QUARTER_HOUR_OFFSETS[(seconds + MAX_SECONDS) / QUARTER_HOUR];
+        }
+        if (!ZoneOffsetCodec.isValid(seconds)) {
+            return newOffset(seconds);
+        }
+        ZoneOffset cached = otherOffsets.get(seconds);
+        if (cached != null) {
+            return cached;
+        }
+        ZoneOffset offset = newOffset(seconds);
+        ZoneOffset previous = otherOffsets.putIfAbsent(seconds, offset);
+        return previous != null ? previous : offset;
     }
 
     /**
@@ -121,23 +169,21 @@ public final class ZoneOffsets {
         checkArgument(((hours < 0) == (minutes < 0)) || (minutes == 0),
                       "Hours (%s) and minutes (%s) must have the same sign.", hours, minutes);
 
-        Duration duration = hoursAndMinutes(hours, minutes);
-        int seconds = toSeconds(duration);
+        int seconds = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE;
         return ofSeconds(seconds);
     }
 
-    @SuppressWarnings("NumericCastThatLosesPrecision")
-    // It is safe, as we check bounds of the arguments.
-    private static int toSeconds(Duration duration) {
-        return (int) Durations2.toSeconds(duration);
-    }
-
     /**
      * Parses the time zone offset value formatted as a signed value of hours and minutes.
      *
      * <p>Examples of accepted values: {@code +0300}, {@code -04:30}.
      */
     public static ZoneOffset parse(String value) {
+        checkNotNull(value);
+        int seconds = ZoneOffsetCodec.parse(value, 0, value.length());
+        if (seconds != ZoneOffsetCodec.INVALID) {
+            return ofSeconds(seconds);
+        }
         java.time.ZoneOffset parsed;
         try {
             parsed = java.time.ZoneOffset.of(value);
@@ -156,15 +202,39 @@ public final class ZoneOffsets {
         return zo.toString();
     }
 
-    private static ZoneOffset create(int offsetInSeconds, @Nullable String zoneId) {
-        if (offsetInSeconds == 0 && zoneId == null) {
-            return utc();
-        }
+    private static ZoneOffset newOffset(int seconds) {
         return ZoneOffset.newBuilder()
-                         .setAmountSeconds(offsetInSeconds)
+                         .setAmountSeconds(seconds)
                          .build();
     }
 
+    private static ZoneOffset[] quarterHourOffsets() {
+        int count = 2 * MAX_SECONDS / QUARTER_HOUR + 1;
+        ZoneOffset[] result = new ZoneOffset[count];
+        for (int i = 0; i < count; i++) {
+            int seconds = i * QUARTER_HOUR - MAX_SECONDS;
+            result[i] = seconds == 0
+                        ? UTC
+                        : newOffset(seconds);
+        }
+        return result;
+    }
+
+    /**
+     * A listener of the changes of the {@linkplain #getDefault() default offset}.
+     */
+    @FunctionalInterface
+    public interface DefaultChangeListener {
+
+        /**
+         * Invoked when the default offset changes.
+         *
+         * @param previous the offset obtained before the change
+         * @param current  the new default offset
+         */
+        void onChange(ZoneOffset previous, ZoneOffset current);
+    }
+
     /**
      * Parameter checks for zone offset values.
      */
@@ -185,7 +255,12 @@ public final class ZoneOffsets {
              */
             @Override
             void checkReduced(int value) {
-                DtPreconditions.checkBounds(value, name().toLowerCase(), min() + 1, max() - 1);
+                int min = min() + 1;
+                int max = max() - 1;
+                // Obtain the parameter name only when reporting an error.
+                if (value < min || value > max) {
+                    DtPreconditions.checkBounds(value, name().toLowerCase(), min, max);
+                }
             }
         },
 
@@ -218,7 +293,10 @@ public final class ZoneOffsets {
         abstract void checkReduced(int value);
 
         protected void checkBounds(int value) {
-            DtPreconditions.checkBounds(value, name().toLowerCase(), min(), max());
+            // Obtain the parameter name only when reporting an error.
+            if (value < min() || value > max()) {
+                DtPreconditions.checkBounds(value, name().toLowerCase(), min(), max());
+            }
         }
 
         int min() {
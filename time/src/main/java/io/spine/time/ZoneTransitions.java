@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spine.time.SiTime.NANOS_PER_SECOND;
+import static java.lang.Math.floorDiv;
+
+/**
+ * A compact table of the offset transitions of a time zone.
+ *
+ * <p>The table holds the instants of the transitions as sorted epoch seconds, and the offsets
+ * in effect between them. Obtaining the offset at a point in time is a binary search over
+ * the instants.
+ *
+ * <p>Zones which change their offsets by recurring rules, such as daylight saving time, have
+ * an unbounded number of transitions. For such zones the table covers the transitions till
+ * the {@linkplain #TABLE_END end of the year 2099}, and the offsets at later points in time
+ * are obtained from the {@link ZoneRules}.
+ */
+final class ZoneTransitions {
+
+    /** The epoch second of {@code 2100-01-01T00:00Z}. */
+    private static final long TABLE_END = 4_102_444_800L;
+
+    private final ZoneRules rules;
+
+    /** The epoch seconds of the transitions in ascending order. */
+    private final long[] instants;
+
+    /**
+     * The offsets in seconds, such that {@code offsets[i]} is in effect before
+     * {@code instants[i]}, and the last offset is in effect after the last transition.
+     */
+    private final int[] offsets;
+
+    /** The epoch second at and after which the table does not cover the transitions. */
+    private final long validUntil;
+
+    private ZoneTransitions(ZoneRules rules, long[] instants, int[] offsets, long validUntil) {
+        this.rules = rules;
+        this.instants = instants;
+        this.offsets = offsets;
+        this.validUntil = validUntil;
+    }
+
+    /**
+     * Builds the table of the transitions defined by the passed rules.
+     */
+    static ZoneTransitions of(ZoneRules rules) {
+        if (rules.isFixedOffset()) {
+            int offset = rules.getOffset(Instant.EPOCH)
+                              .getTotalSeconds();
+            return new ZoneTransitions(rules, new long[0], new int[]{offset}, Long.MAX_VALUE);
+        }
+        List<ZoneOffsetTransition> transitions = new ArrayList<>(rules.getTransitions());
+        ZoneOffsetTransition next = transitions.isEmpty()
+                                    ? rules.nextTransition(Instant.MIN)
+                                    : rules.nextTransition(last(transitions).getInstant());
+        while (next != null && next.toEpochSecond() < TABLE_END) {
+            transitions.add(next);
+            next = rules.nextTransition(next.getInstant());
+        }
+        int count = transitions.size();
+        long[] instants = new long[count];
+        int[] offsets = new int[count + 1];
+        offsets[0] = count == 0
+                     ? rules.getOffset(Instant.MIN)
+                            .getTotalSeconds()
+                     : transitions.get(0)
+                                  .getOffsetBefore()
+                                  .getTotalSeconds();
+        for (int i = 0; i < count; i++) {
+            ZoneOffsetTransition transition = transitions.get(i);
+            instants[i] = transition.toEpochSecond();
+            offsets[i + 1] = transition.getOffsetAfter()
+                                       .getTotalSeconds();
+        }
+        long validUntil = next == null
+                          ? Long.MAX_VALUE
+                          : TABLE_END;
+        return new ZoneTransitions(rules, instants, offsets, validUntil);
+    }
+
+    private static ZoneOffsetTransition last(List<ZoneOffsetTransition> transitions) {
+        return transitions.get(transitions.size() - 1);
+    }
+
+    /**
+     * Obtains the offset in seconds in effect at the passed epoch second.
+     */
+    int offsetSecondsAt(long epochSecond) {
+        if (epochSecond >= validUntil) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond))
+                        .getTotalSeconds();
+        }
+        int index = TimestampSearch.upperBound(instants, 0, instants.length, epochSecond);
+        return offsets[index];
+    }
+
+    /**
+     * Obtains the offsets in seconds in effect at the passed points in time.
+     *
+     * <p>The period between the transitions found for a value is reused for the following
+     * values while they fall into it, so that sorted or clustered values rarely require
+     * a search.
+     *
+     * @param epochNanos the numbers of nanoseconds since the Unix epoch
+     * @param from       the index of the first value, inclusive
+     * @param to         the index of the last value, exclusive
+     * @param result     the array to put the offsets to, at the same indexes as the values
+     */
+    void offsetSecondsAt(long[] epochNanos, int from, int to, int[] result) {
+        long periodStart = Long.MAX_VALUE;
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = from; i < to; i++) {
+            long epochSecond = floorDiv(epochNanos[i], NANOS_PER_SECOND);
+            if (epochSecond < periodStart || epochSecond >= periodEnd) {
+                if (epochSecond >= validUntil) {
+                    result[i] = offsetSecondsAt(epochSecond);
+                    continue;
+                }
+                int index = TimestampSearch.upperBound(instants, 0, instants.length, epochSecond);
+                periodStart = index == 0 ? Long.MIN_VALUE : instants[index - 1];
+                periodEnd = index == instants.length ? validUntil : instants[index];
+                offset = offsets[index];
+            }
+            result[i] = offset;
+        }
+    }
+
+    /**
+     * Obtains the number of transitions in the table.
+     */
+    int size() {
+        return instants.length;
+    }
+}
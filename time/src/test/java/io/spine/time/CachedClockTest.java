@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.floorMod;
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("CachedClock should")
+class CachedClockTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private CachedClock clock;
+
+    @AfterEach
+    void tearDown() {
+        if (clock != null) {
+            clock.close();
+        }
+    }
+
+    @Test
+    @DisplayName("reject non-positive tick")
+    void rejectTick() {
+        assertThrows(IllegalArgumentException.class, () -> CachedClock.start(0, MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> CachedClock.start(-1, MILLISECONDS));
+        assertThrows(NullPointerException.class, () -> CachedClock.start(1, null));
+    }
+
+    @Test
+    @DisplayName("serve values of the same snapshot")
+    void consistentValues() {
+        clock = CachedClock.start(1, DAYS);
+        Timestamp timestamp = clock.getCurrentTime();
+        ZoneOffset offset = clock.zoneOffset();
+
+        assertEquals(ZoneOffsets.getDefault(), offset);
+        assertEquals(LocalDates.dateAt(timestamp, offset), clock.localDate());
+        assertEquals(LocalTimes.timeAt(timestamp, offset), clock.localTime());
+        assertEquals(OffsetDateTimes.of(clock.localDate(), clock.localTime(), offset),
+                     clock.offsetDateTime());
+    }
+
+    @Test
+    @DisplayName("keep the values between ticks")
+    void cached() {
+        clock = CachedClock.start(1, DAYS);
+        Timestamp timestamp = clock.getCurrentTime();
+        assertSame(timestamp, clock.getCurrentTime());
+        assertSame(clock.localTime(), clock.localTime());
+    }
+
+    @Test
+    @DisplayName("refresh the values by tick")
+    void refreshByTick() throws InterruptedException {
+        clock = CachedClock.start(100, MICROSECONDS);
+        Timestamp first = clock.getCurrentTime();
+        assertTrue(awaitChange(first));
+    }
+
+    @Test
+    @DisplayName("keep refreshing after a failed refresh")
+    void recoverFromFailure() throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        clock = CachedClock.start(1, MILLISECONDS, () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Refresh failure.");
+            }
+            return Instant.now();
+        });
+        failures.set(3);
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (failures.get() >= 0 && System.currentTimeMillis() < deadline) {
+            MILLISECONDS.sleep(1);
+        }
+        assertTrue(failures.get() < 0);
+
+        Timestamp afterFailures = clock.getCurrentTime();
+        assertTrue(awaitChange(afterFailures));
+        assertFalse(clock.isClosed());
+    }
+
+    @Test
+    @DisplayName("stop refreshing when closed")
+    void close() throws InterruptedException {
+        clock = CachedClock.start(1, MILLISECONDS);
+        assertFalse(clock.isClosed());
+        clock.close();
+        assertTrue(clock.isClosed());
+
+        Timestamp last = clock.getCurrentTime();
+        Thread.sleep(20);
+        assertSame(last, clock.getCurrentTime());
+    }
+
+    @Nested
+    @DisplayName("when installed")
+    class Installed {
+
+        @Test
+        @DisplayName("provide the current time")
+        void provideTime() {
+            clock = CachedClock.install(1, DAYS);
+            assertSame(clock, CachedClock.installed());
+            assertSame(clock.getCurrentTime(), Time.getCurrentTime());
+        }
+
+        @Test
+        @DisplayName("serve the `now()` methods")
+        void serveNow() {
+            clock = CachedClock.install(1, DAYS);
+            ZoneOffset offset = clock.zoneOffset();
+
+            assertSame(clock.localDate(), LocalDates.now());
+            assertSame(clock.localTime(), LocalTimes.now());
+            assertSame(clock.offsetDateTime(), OffsetDateTimes.now());
+            assertEquals(OffsetTimes.of(clock.localTime(), offset), OffsetTimes.now(offset));
+        }
+
+        @Test
+        @DisplayName("serve current time at another offset")
+        void anotherOffset() {
+            clock = CachedClock.install(1, DAYS);
+            ZoneOffset offset = clock.zoneOffset()
+                                     .getAmountSeconds() == 3600
+                                ? ZoneOffsets.ofHours(2)
+                                : ZoneOffsets.ofHours(1);
+            LocalTime expected = LocalTimes.timeAt(clock.getCurrentTime(), offset);
+            assertEquals(OffsetTimes.of(expected, offset), OffsetTimes.now(offset));
+        }
+
+        @Test
+        @DisplayName("restore the system time when closed")
+        void restore() throws InterruptedException {
+            clock = CachedClock.install(1, DAYS);
+            Timestamp cached = clock.getCurrentTime();
+            clock.close();
+
+            assertNull(CachedClock.installed());
+            Thread.sleep(2);
+            assertNotSame(cached, Time.getCurrentTime());
+            assertNotSame(clock.localDate(), LocalDates.now());
+        }
+
+        @Test
+        @DisplayName("close a replaced clock")
+        void closeReplaced() {
+            CachedClock replaced = CachedClock.install(1, DAYS);
+            clock = CachedClock.install(1, DAYS);
+
+            assertTrue(replaced.isClosed());
+            assertFalse(clock.isClosed());
+        }
+
+        @Test
+        @DisplayName("remain installed when a replaced clock is closed")
+        void replace() {
+            CachedClock replaced = CachedClock.install(1, DAYS);
+            clock = CachedClock.install(1, DAYS);
+            replaced.close();
+
+            assertSame(clock, CachedClock.installed());
+            assertSame(clock.getCurrentTime(), Time.getCurrentTime());
+        }
+
+        @Test
+        @DisplayName("serve the same time at another offset as the system clock")
+        void sameAsSystem() {
+            ZoneOffset defaultOffset = ZoneOffsets.getDefault();
+            ZoneOffset offset = defaultOffset.getAmountSeconds() == 5 * 3600
+                                ? ZoneOffsets.ofHours(-7)
+                                : ZoneOffsets.ofHours(5);
+            OffsetTime uncached = OffsetTimes.now(offset);
+            clock = CachedClock.install(1, DAYS);
+            OffsetTime cached = OffsetTimes.now(offset);
+
+            assertEquals(offset, cached.getOffset());
+            assertEquals(offset, uncached.getOffset());
+            int uncachedSeconds = toSecondOfDay(uncached);
+            int cachedSeconds = toSecondOfDay(cached);
+            int difference = floorMod(cachedSeconds - uncachedSeconds, SECONDS_PER_DAY);
+            assertTrue(difference <= 60 || difference >= SECONDS_PER_DAY - 60,
+                       () -> "Uncached: " + OffsetTimes.toString(uncached)
+                               + ", cached: " + OffsetTimes.toString(cached));
+        }
+
+        @Test
+        @DisplayName("reject an invalid offset")
+        void invalidOffset() {
+            clock = CachedClock.install(1, DAYS);
+            ZoneOffset invalid = ZoneOffset
+                    .newBuilder()
+                    .setAmountSeconds(20 * 3600)
+                    .build();
+            assertThrows(DateTimeException.class, () -> OffsetTimes.now(invalid));
+        }
+
+        private int toSecondOfDay(OffsetTime time) {
+            return OffsetTimes.toJavaTime(time)
+                              .toLocalTime()
+                              .toSecondOfDay();
+        }
+    }
+
+    private boolean awaitChange(Timestamp initial) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Timestamp current = clock.getCurrentTime();
+            if (Timestamps.compare(current, initial) > 0) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static io.spine.time.CalendarTable.FIRST_YEAR;
+import static io.spine.time.CalendarTable.LAST_YEAR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CalendarTable should")
+class CalendarTableTest {
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityCtor() {
+        assertHasPrivateParameterlessCtor(CalendarTable.class);
+    }
+
+    @Test
+    @DisplayName("cover years from 1900 to 2200")
+    void coveredYears() {
+        assertFalse(CalendarTable.covers(FIRST_YEAR - 1));
+        assertTrue(CalendarTable.covers(FIRST_YEAR));
+        assertTrue(CalendarTable.covers(LAST_YEAR));
+        assertFalse(CalendarTable.covers(LAST_YEAR + 1));
+
+        long firstDay = java.time.LocalDate.of(FIRST_YEAR, 1, 1)
+                                           .toEpochDay();
+        long lastDay = java.time.LocalDate.of(LAST_YEAR, 12, 31)
+                                          .toEpochDay();
+        assertFalse(CalendarTable.coversEpochDay(firstDay - 1));
+        assertTrue(CalendarTable.coversEpochDay(firstDay));
+        assertTrue(CalendarTable.coversEpochDay(lastDay));
+        assertFalse(CalendarTable.coversEpochDay(lastDay + 1));
+    }
+
+    @Test
+    @DisplayName("hold the same leap year flags as the arithmetic")
+    void leapYears() {
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            assertEquals(Years.computeLeapYear(year), CalendarTable.isLeapYear(year));
+            assertEquals(java.time.Year.isLeap(year), Years.isLeapYear(year));
+        }
+    }
+
+    @Test
+    @DisplayName("hold the lengths of the months")
+    void monthLengths() {
+        for (int month = 1; month <= 12; month++) {
+            assertEquals(java.time.Month.of(month)
+                                        .length(false),
+                         CalendarTable.daysInMonth(false, month));
+            assertEquals(java.time.Month.of(month)
+                                        .length(true),
+                         CalendarTable.daysInMonth(true, month));
+        }
+    }
+
+    @Test
+    @DisplayName("convert every covered day the same way as the arithmetic")
+    void epochDays() {
+        java.time.LocalDate date = java.time.LocalDate.of(FIRST_YEAR, 1, 1);
+        java.time.LocalDate end = java.time.LocalDate.of(LAST_YEAR + 1, 1, 1);
+        while (date.isBefore(end)) {
+            int year = date.getYear();
+            int month = date.getMonthValue();
+            int day = date.getDayOfMonth();
+            long epochDay = CalendarTable.toEpochDay(year, month, day);
+            assertEquals(PackedLocalDate.computeEpochDay(year, month, day), epochDay);
+            assertEquals(PackedLocalDate.pack(year, month, day),
+                         CalendarTable.packEpochDay(epochDay));
+            assertEquals(date.getDayOfYear() - day,
+                         CalendarTable.daysBeforeMonth(date.isLeapYear(), month));
+            date = date.plusDays(1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.spine.time.Durations2.ZERO;
+import static io.spine.time.Durations2.milliseconds;
+import static io.spine.time.Durations2.nanos;
+import static io.spine.time.Durations2.seconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ConcurrentDurationAccumulator should")
+class ConcurrentDurationAccumulatorTest {
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullCheck() {
+        new NullPointerTester()
+                .testAllPublicInstanceMethods(new ConcurrentDurationAccumulator());
+    }
+
+    @Test
+    @DisplayName("accumulate values from several threads")
+    void concurrentAdd() throws Exception {
+        ConcurrentDurationAccumulator accumulator = new ConcurrentDurationAccumulator();
+        int threads = 8;
+        int valuesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 1; i <= valuesPerThread; i++) {
+                    accumulator.add(milliseconds(i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        long sumMillis = (long) threads * valuesPerThread * (valuesPerThread + 1) / 2;
+        DurationAccumulator snapshot = accumulator.snapshot();
+        assertEquals(milliseconds(sumMillis), snapshot.sum());
+        assertEquals(threads * valuesPerThread, snapshot.count());
+        assertEquals(milliseconds(1), snapshot.min());
+        assertEquals(milliseconds(valuesPerThread), snapshot.max());
+    }
+
+    @Test
+    @DisplayName("subtract values and reset")
+    void subtractAndReset() {
+        ConcurrentDurationAccumulator accumulator = new ConcurrentDurationAccumulator()
+                .add(seconds(2))
+                .addNanos(5)
+                .subtract(seconds(1));
+
+        assertEquals(Durations2.add(seconds(1), nanos(5)), accumulator.sum());
+        assertEquals(2, accumulator.count());
+
+        accumulator.reset();
+        assertEquals(ZERO, accumulator.sum());
+        assertEquals(0, accumulator.count());
+    }
+
+    @Test
+    @DisplayName("keep accumulated values when the sum overflows")
+    void overflow() {
+        Duration longest = Duration
+                .newBuilder()
+                .setSeconds(Long.MAX_VALUE)
+                .build();
+        ConcurrentDurationAccumulator accumulator = new ConcurrentDurationAccumulator()
+                .add(longest);
+
+        assertThrows(ArithmeticException.class, () -> accumulator.add(seconds(1)));
+        assertEquals(1, accumulator.count());
+
+        accumulator.subtract(longest);
+        assertEquals(ZERO, accumulator.sum());
+    }
+}
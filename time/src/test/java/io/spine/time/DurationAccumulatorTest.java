@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.time.Durations2.ZERO;
+import static io.spine.time.Durations2.add;
+import static io.spine.time.Durations2.milliseconds;
+import static io.spine.time.Durations2.nanos;
+import static io.spine.time.Durations2.seconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"ClassCanBeStatic", "InnerClassMayBeStatic"})
+@DisplayName("DurationAccumulator should")
+class DurationAccumulatorTest {
+
+    private DurationAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new DurationAccumulator();
+    }
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullCheck() {
+        new NullPointerTester().testAllPublicInstanceMethods(accumulator);
+    }
+
+    @Test
+    @DisplayName("have zero sum and count when empty")
+    void empty() {
+        assertEquals(ZERO, accumulator.sum());
+        assertEquals(0, accumulator.count());
+    }
+
+    @Nested
+    @DisplayName("reject obtaining when empty")
+    class RejectEmpty {
+
+        @Test
+        @DisplayName("min")
+        void min() {
+            assertThrows(IllegalStateException.class, () -> accumulator.min());
+        }
+
+        @Test
+        @DisplayName("max")
+        void max() {
+            assertThrows(IllegalStateException.class, () -> accumulator.max());
+        }
+
+        @Test
+        @DisplayName("mean")
+        void mean() {
+            assertThrows(IllegalStateException.class, () -> accumulator.mean());
+        }
+    }
+
+    @Test
+    @DisplayName("accumulate positive and negative durations")
+    void accumulate() {
+        Duration expected = ZERO;
+        Duration[] values = {
+                milliseconds(1500), nanos(-1), seconds(-3), nanos(999_999_999), milliseconds(-250)
+        };
+        for (Duration value : values) {
+            accumulator.add(value);
+            expected = add(expected, value);
+        }
+        accumulator.addNanos(-1_000_000_001L);
+        expected = add(expected, nanos(-1_000_000_001L));
+
+        assertEquals(expected, accumulator.sum());
+        assertEquals(6, accumulator.count());
+        assertEquals(seconds(-3), accumulator.min());
+        assertEquals(milliseconds(1500), accumulator.max());
+    }
+
+    @Test
+    @DisplayName("calculate mean rounded down")
+    void mean() {
+        accumulator.add(nanos(1))
+                   .add(nanos(2))
+                   .add(nanos(2));
+        assertEquals(nanos(1), accumulator.mean());
+
+        accumulator.reset();
+        accumulator.add(seconds(-1))
+                   .add(nanos(-1));
+        assertEquals(nanos(-500_000_001), accumulator.mean());
+    }
+
+    @Test
+    @DisplayName("calculate nanos of mean without overflow")
+    void meanNanosNearOverflow() {
+        long count = 9_223_372_037L;
+        long remainder = count - 1;
+        assertEquals(999_999_999, DurationAccumulator.meanNanos(remainder, 999_999_999, count));
+        assertEquals(1, DurationAccumulator.meanNanos(1, 0, 1_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("subtract from sum without affecting statistics")
+    void subtract() {
+        accumulator.add(seconds(10))
+                   .subtract(milliseconds(2500));
+
+        assertEquals(milliseconds(7500), accumulator.sum());
+        assertEquals(1, accumulator.count());
+        assertEquals(seconds(10), accumulator.max());
+    }
+
+    @Test
+    @DisplayName("merge another accumulator")
+    void merge() {
+        DurationAccumulator other = new DurationAccumulator()
+                .add(seconds(5))
+                .add(seconds(1));
+        accumulator.add(seconds(3))
+                   .merge(other)
+                   .merge(new DurationAccumulator());
+
+        assertEquals(seconds(9), accumulator.sum());
+        assertEquals(3, accumulator.count());
+        assertEquals(seconds(1), accumulator.min());
+        assertEquals(seconds(5), accumulator.max());
+        assertEquals(seconds(3), accumulator.mean());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.copyOf;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("IntervalIndex should")
+class IntervalIndexTest {
+
+    private static final long BASE_SECONDS = 1_500_000_000L;
+    private static final int INTERVAL_COUNT = 500;
+    private static final int SPAN_SECONDS = 10_000;
+
+    private Random random;
+    private List<Interval> intervals;
+    private IntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(42);
+        intervals = new ArrayList<>();
+        for (int i = 0; i < INTERVAL_COUNT; i++) {
+            Timestamp start = randomTimestamp();
+            long lengthNanos = 1 + (long) random.nextInt(500) * 1_000_000_000L
+                             + random.nextInt(1_000_000_000);
+            Timestamp end = Timestamps.fromNanos(Timestamps.toNanos(start) + lengthNanos);
+            intervals.add(Intervals.between(start, end));
+        }
+        index = IntervalIndex.of(intervals);
+    }
+
+    private Timestamp randomTimestamp() {
+        return Timestamp.newBuilder()
+                        .setSeconds(BASE_SECONDS + random.nextInt(SPAN_SECONDS))
+                        .setNanos(random.nextInt(1_000_000_000))
+                        .build();
+    }
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(Timestamp.class, Timestamps.fromSeconds(BASE_SECONDS))
+                .testAllPublicStaticMethods(IntervalIndex.class);
+        new NullPointerTester()
+                .setDefault(Timestamp.class, Timestamps.fromSeconds(BASE_SECONDS))
+                .testAllPublicInstanceMethods(index);
+    }
+
+    @Test
+    @DisplayName("tell the number of indexed intervals")
+    void size() {
+        assertEquals(INTERVAL_COUNT, index.size());
+        assertEquals(0, IntervalIndex.of(ImmutableList.of()).size());
+    }
+
+    @Nested
+    @DisplayName("find intervals containing a point in time")
+    class Containing {
+
+        @Test
+        @DisplayName("same as a linear scan")
+        void sameAsLinearScan() {
+            for (int i = 0; i < 1_000; i++) {
+                Timestamp point = randomTimestamp();
+                Set<Interval> expected = intervals.stream()
+                                                  .filter(it -> Intervals.contains(it, point))
+                                                  .collect(toSet());
+                ImmutableList<Interval> actual = index.containing(point);
+                assertEquals(expected, copyOf(actual));
+                assertEquals(expected.size(), actual.size());
+                assertEquals(!expected.isEmpty(), index.anyContains(point));
+            }
+        }
+
+        @Test
+        @DisplayName("including the bounds")
+        void closed() {
+            Interval first = intervals.get(0);
+            assertTrue(index.containing(first.getStart())
+                            .contains(first));
+            assertTrue(index.containing(first.getEnd())
+                            .contains(first));
+        }
+
+        @Test
+        @DisplayName("ordered by their starts")
+        void ordered() {
+            Timestamp point = Timestamps.fromSeconds(BASE_SECONDS + SPAN_SECONDS / 2);
+            ImmutableList<Interval> found = index.containing(point);
+            for (int i = 1; i < found.size(); i++) {
+                assertTrue(Timestamps.compare(found.get(i - 1)
+                                                   .getStart(),
+                                              found.get(i)
+                                                   .getStart()) <= 0);
+            }
+        }
+
+        @Test
+        @DisplayName("out of all indexed intervals")
+        void outside() {
+            Timestamp before = Timestamps.fromSeconds(BASE_SECONDS - 1);
+            assertTrue(index.containing(before)
+                            .isEmpty());
+            assertFalse(index.anyContains(before));
+            assertFalse(IntervalIndex.of(ImmutableList.of())
+                                     .anyContains(before));
+        }
+    }
+
+    @Nested
+    @DisplayName("find intervals overlapping a range")
+    class Overlapping {
+
+        @Test
+        @DisplayName("same as a linear scan")
+        void sameAsLinearScan() {
+            for (int i = 0; i < 1_000; i++) {
+                long a = Timestamps.toNanos(randomTimestamp());
+                long b = Timestamps.toNanos(randomTimestamp());
+                long from = Math.min(a, b);
+                long to = Math.max(a, b);
+                Set<Interval> expected =
+                        intervals.stream()
+                                 .filter(it -> Timestamps.toNanos(it.getStart()) <= to
+                                         && Timestamps.toNanos(it.getEnd()) >= from)
+                                 .collect(toSet());
+                ImmutableList<Interval> actual =
+                        index.overlapping(Timestamps.fromNanos(from), Timestamps.fromNanos(to));
+                assertEquals(expected, copyOf(actual));
+                assertEquals(expected.size(), actual.size());
+            }
+        }
+
+        @Test
+        @DisplayName("rejecting a reversed range")
+        void reversed() {
+            assertThrows(IllegalArgumentException.class, () -> index.overlapping(10, 9));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("IntervalSet should")
+class IntervalSetTest {
+
+    private static final long BASE_SECONDS = 1_500_000_000L;
+    private static final int SPAN_SECONDS = 60;
+
+    private static Timestamp at(int second) {
+        return Timestamps.fromSeconds(BASE_SECONDS + second);
+    }
+
+    private static Interval interval(int startSecond, int endSecond) {
+        return Intervals.between(at(startSecond), at(endSecond));
+    }
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(Interval.class, interval(0, 1))
+                .testAllPublicStaticMethods(IntervalSet.class);
+        new NullPointerTester()
+                .setDefault(Interval.class, interval(0, 1))
+                .testAllPublicInstanceMethods(IntervalSet.of(interval(0, 1)));
+    }
+
+    @Test
+    @DisplayName("reject an interval with the end before the start")
+    void rejectReversed() {
+        Interval reversed = Interval.newBuilder()
+                                    .setStart(at(2))
+                                    .setEnd(at(1))
+                                    .build();
+        assertThrows(IllegalArgumentException.class,
+                     () -> IntervalSet.of(ImmutableList.of(reversed)));
+    }
+
+    @Nested
+    @DisplayName("normalize intervals by")
+    class Normalize {
+
+        @Test
+        @DisplayName("merging overlapping and touching ones")
+        void coalesce() {
+            IntervalSet set = IntervalSet.of(ImmutableList.of(
+                    interval(20, 30), interval(0, 5), interval(3, 10), interval(10, 12),
+                    interval(25, 27)
+            ));
+            assertEquals(ImmutableList.of(interval(0, 12), interval(20, 30)), set.toList());
+            assertEquals(2, set.size());
+        }
+
+        @Test
+        @DisplayName("dropping empty ones")
+        void dropEmpty() {
+            Interval empty = Interval.newBuilder()
+                                     .setStart(at(3))
+                                     .setEnd(at(3))
+                                     .build();
+            IntervalSet set = IntervalSet.of(ImmutableList.of(empty));
+            assertTrue(set.isEmpty());
+            assertEquals(IntervalSet.empty(), set);
+        }
+
+        @Test
+        @DisplayName("regardless of the order")
+        void orderIndependent() {
+            List<Interval> intervals = randomIntervals(new Random(7), 20);
+            List<Interval> reversed = new ArrayList<>(intervals);
+            Collections.reverse(reversed);
+            new EqualsTester()
+                    .addEqualityGroup(IntervalSet.of(intervals), IntervalSet.of(reversed))
+                    .addEqualityGroup(IntervalSet.empty())
+                    .testEquals();
+        }
+
+        @Test
+        @DisplayName("via `Intervals.coalesce`")
+        void viaIntervals() {
+            assertEquals(ImmutableList.of(interval(0, 12)),
+                         Intervals.coalesce(ImmutableList.of(interval(5, 12), interval(0, 6))));
+        }
+    }
+
+    @Test
+    @DisplayName("treat intervals as half-open")
+    void halfOpen() {
+        IntervalSet set = IntervalSet.of(interval(5, 10));
+        assertTrue(set.contains(at(5)));
+        assertTrue(set.contains(at(9)));
+        assertFalse(set.contains(at(10)));
+        assertFalse(set.contains(at(4)));
+    }
+
+    @Test
+    @DisplayName("calculate total duration")
+    void totalDuration() {
+        IntervalSet set = IntervalSet.of(ImmutableList.of(
+                interval(0, 10), interval(5, 15), interval(20, 21)
+        ));
+        assertEquals(Durations.fromSeconds(16), set.totalDuration());
+        assertEquals(Durations2.ZERO, IntervalSet.empty()
+                                                 .totalDuration());
+    }
+
+    @Nested
+    @DisplayName("obtain the same points in time as a pointwise check for")
+    class Algebra {
+
+        private final Random random = new Random(42);
+
+        @Test
+        @DisplayName("union")
+        void union() {
+            assertOperation(IntervalSet::union, (a, b) -> a || b);
+        }
+
+        @Test
+        @DisplayName("intersection")
+        void intersection() {
+            assertOperation(IntervalSet::intersection, (a, b) -> a && b);
+        }
+
+        @Test
+        @DisplayName("difference")
+        void difference() {
+            assertOperation(IntervalSet::difference, (a, b) -> a && !b);
+        }
+
+        @Test
+        @DisplayName("complement within bounds")
+        void complement() {
+            Interval bounds = interval(10, 50);
+            for (int round = 0; round < 200; round++) {
+                IntervalSet set = IntervalSet.of(randomIntervals(random, random.nextInt(8)));
+                IntervalSet complement = set.complement(bounds);
+                for (int second = -1; second <= SPAN_SECONDS + 1; second++) {
+                    boolean expected = second >= 10 && second < 50 && !set.contains(at(second));
+                    assertEquals(expected, complement.contains(at(second)));
+                }
+                assertNormalized(complement);
+            }
+        }
+
+        private void assertOperation(BinaryOperator<IntervalSet> operation,
+                                     BiPredicate<Boolean, Boolean> rule) {
+            for (int round = 0; round < 500; round++) {
+                IntervalSet a = IntervalSet.of(randomIntervals(random, random.nextInt(8)));
+                IntervalSet b = IntervalSet.of(randomIntervals(random, random.nextInt(8)));
+                IntervalSet result = operation.apply(a, b);
+                for (int second = -1; second <= SPAN_SECONDS + 1; second++) {
+                    Timestamp point = at(second);
+                    boolean expected = rule.test(a.contains(point), b.contains(point));
+                    assertEquals(expected, result.contains(point));
+                }
+                assertNormalized(result);
+            }
+        }
+    }
+
+    private static void assertNormalized(IntervalSet set) {
+        assertEquals(set, IntervalSet.of(set.toList()));
+        ImmutableList<Interval> list = set.toList();
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(Timestamps.compare(list.get(i - 1)
+                                              .getEnd(),
+                                          list.get(i)
+                                              .getStart()) < 0);
+        }
+    }
+
+    private static List<Interval> randomIntervals(Random random, int count) {
+        List<Interval> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(SPAN_SECONDS - 1);
+            int end = start + 1 + random.nextInt(Math.min(10, SPAN_SECONDS - start));
+            result.add(interval(start, end));
+        }
+        return result;
+    }
+}
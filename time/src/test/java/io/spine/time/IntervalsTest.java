@@ -20,11 +20,21 @@
 
 package io.spine.time;
 
+import com.google.common.collect.Range;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
 import static io.spine.time.Intervals.between;
@@ -82,6 +92,75 @@ class IntervalsTest {
         assertEquals(expectedDuration, actualDuration);
     }
 
+    @Nested
+    @DisplayName("calculate duration the same way as `Timestamps.between`")
+    class DurationProperties {
+
+        private static final long MIN_SECONDS = -62_135_596_800L;
+        private static final long MAX_SECONDS = 253_402_300_799L;
+        private static final int ROUNDS = 100_000;
+
+        private final Random random = new Random(42);
+
+        @Test
+        @DisplayName("for any valid bounds")
+        void anyBounds() {
+            for (int i = 0; i < ROUNDS; i++) {
+                Interval interval = interval(randomSeconds(MIN_SECONDS, MAX_SECONDS),
+                                             randomSeconds(MIN_SECONDS, MAX_SECONDS));
+                assertDuration(interval);
+            }
+        }
+
+        @Test
+        @DisplayName("for bounds close to each other")
+        void closeBounds() {
+            for (int i = 0; i < ROUNDS; i++) {
+                long seconds = randomSeconds(-1_000_000_000L, 1_000_000_000L);
+                long otherSeconds = seconds + random.nextInt(5) - 2;
+                Interval interval = interval(seconds, otherSeconds);
+                assertDuration(interval);
+                assertEquals(Durations.toNanos(Timestamps.between(interval.getStart(),
+                                                                  interval.getEnd())),
+                             Intervals.toNanos(interval));
+            }
+        }
+
+        @Test
+        @DisplayName("with the end nanos less than the start nanos")
+        void borrowNanos() {
+            Interval interval = between(newTimestamp(5, 900_000_000), newTimestamp(7, 100_000_000));
+            assertEquals(Durations.fromMillis(1_200), Intervals.toDuration(interval));
+            assertEquals(1_200_000_000L, Intervals.toNanos(interval));
+        }
+
+        @Test
+        @DisplayName("rejecting nanos out of the long range")
+        void overflow() {
+            Interval interval = interval(MIN_SECONDS, MAX_SECONDS);
+            assertThrows(ArithmeticException.class, () -> Intervals.toNanos(interval));
+        }
+
+        private void assertDuration(Interval interval) {
+            Duration expected = Timestamps.between(interval.getStart(), interval.getEnd());
+            assertEquals(expected, Intervals.toDuration(interval));
+        }
+
+        private long randomSeconds(long min, long max) {
+            return min + (long) (random.nextDouble() * (max - min));
+        }
+
+        /**
+         * Creates an interval without checking the order of the bounds.
+         */
+        private Interval interval(long startSeconds, long endSeconds) {
+            return Interval.newBuilder()
+                           .setStart(newTimestamp(startSeconds, random.nextInt(1_000_000_000)))
+                           .setEnd(newTimestamp(endSeconds, random.nextInt(1_000_000_000)))
+                           .build();
+        }
+    }
+
     @Test
     @DisplayName("Reject zero Interval")
     void rejectZeroInterval() {
@@ -94,6 +173,77 @@ class IntervalsTest {
         );
     }
 
+    @Nested
+    @DisplayName("find points in time within an Interval")
+    class Batch {
+
+        private final Random random = new Random(42);
+        private final Interval interval = between(newTimestamp(100, 500), newTimestamp(200, 0));
+
+        @Test
+        @DisplayName("in a sorted column")
+        void sortedColumn() {
+            for (int round = 0; round < 100; round++) {
+                long[] nanos = randomNanos();
+                Arrays.sort(nanos);
+                List<Timestamp> timestamps = toTimestamps(nanos);
+
+                Range<Integer> range = Intervals.indexRange(interval, nanos);
+                assertEquals(range, Intervals.indexRange(interval, timestamps));
+                for (int i = 0; i < nanos.length; i++) {
+                    assertEquals(contains(interval, timestamps.get(i)), range.contains(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("in an unordered column")
+        void unorderedColumn() {
+            for (int round = 0; round < 100; round++) {
+                long[] nanos = randomNanos();
+                List<Timestamp> timestamps = toTimestamps(nanos);
+
+                BitSet indexes = Intervals.indexesWithin(interval, nanos);
+                assertEquals(indexes, Intervals.indexesWithin(interval, timestamps));
+                for (int i = 0; i < nanos.length; i++) {
+                    assertEquals(contains(interval, timestamps.get(i)), indexes.get(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("in an empty column")
+        void emptyColumn() {
+            assertTrue(Intervals.indexRange(interval, new long[0])
+                                .isEmpty());
+            assertTrue(Intervals.indexesWithin(interval, new long[0])
+                                .isEmpty());
+        }
+
+        /**
+         * Generates points around the interval including its bounds.
+         */
+        private long[] randomNanos() {
+            long[] result = new long[random.nextInt(300)];
+            long[] bounds = {Timestamps.toNanos(interval.getStart()),
+                             Timestamps.toNanos(interval.getEnd())};
+            for (int i = 0; i < result.length; i++) {
+                result[i] = random.nextInt(10) == 0
+                            ? bounds[random.nextInt(2)] + random.nextInt(3) - 1
+                            : (long) random.nextInt(300) * 1_000_000_000L;
+            }
+            return result;
+        }
+
+        private List<Timestamp> toTimestamps(long[] nanos) {
+            List<Timestamp> result = new ArrayList<>(nanos.length);
+            for (long value : nanos) {
+                result.add(Timestamps.fromNanos(value));
+            }
+            return result;
+        }
+    }
+
     private static Timestamp newTimestamp(long seconds, int nanos) {
         return Timestamp.newBuilder()
                         .setSeconds(seconds)
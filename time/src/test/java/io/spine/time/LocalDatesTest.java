@@ -21,15 +21,22 @@
 package io.spine.time;
 
 import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.Random;
+
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
 import static io.spine.time.testing.TimeTests.avoidDayEdge;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("ClassCanBeStatic")
 @DisplayName("LocalDates should")
@@ -94,6 +101,8 @@ class LocalDatesTest {
             new NullPointerTester()
                     .setDefault(LocalDate.class, LocalDates.now())
                     .setDefault(int.class, 1)
+                    .setDefault(Timestamp.class, Timestamp.getDefaultInstance())
+                    .setDefault(ZoneOffset.class, ZoneOffsets.utc())
                     .testAllPublicStaticMethods(LocalDates.class);
         }
 
@@ -124,6 +133,54 @@ class LocalDatesTest {
         assertEquals(today, LocalDates.parse(str));
     }
 
+    @Nested
+    @DisplayName("Parse")
+    class Parse {
+
+        @Test
+        @DisplayName("canonical ISO 8601 string")
+        void canonical() {
+            assertEquals(LocalDates.of(2018, MonthOfYear.FEBRUARY, 28),
+                         LocalDates.parse("2018-02-28"));
+            assertEquals(LocalDates.of(2016, MonthOfYear.FEBRUARY, 29),
+                         LocalDates.parse("2016-02-29"));
+            assertEquals(LocalDates.of(1, MonthOfYear.DECEMBER, 31),
+                         LocalDates.parse("0001-12-31"));
+        }
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            java.time.LocalDate date = java.time.LocalDate.of(1900, 1, 1);
+            java.time.LocalDate end = java.time.LocalDate.of(2100, 1, 1);
+            while (date.isBefore(end)) {
+                assertEquals(LocalDates.of(date), LocalDates.parse(date.toString()));
+                date = date.plusDays(13);
+            }
+        }
+
+        @Test
+        @DisplayName("year with more than four digits")
+        void longYear() {
+            LocalDate date = LocalDates.parse("+12018-03-14");
+            assertEquals(12018, date.getYear());
+            assertEquals(MonthOfYear.MARCH, date.getMonth());
+            assertEquals(14, date.getDay());
+        }
+
+        @Test
+        @DisplayName("and reject invalid dates")
+        void rejectInvalid() {
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017-02-29"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017-13-01"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017-04-31"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017-04-00"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017-4-1"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2O17-04-01"));
+            assertThrows(RuntimeException.class, () -> LocalDates.parse("2017/04/01"));
+        }
+    }
+
     @Test
     @DisplayName("conver to Java Time")
     void toJavaTime() {
@@ -132,4 +189,240 @@ class LocalDatesTest {
         assertEquals(java.time.LocalDate.now(),
                      LocalDates.toJavaTime(today));
     }
+
+    @Test
+    @DisplayName("compare values the same way as Java Time")
+    void compare() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            java.time.LocalDate first = randomDate(random);
+            java.time.LocalDate second = randomDate(random);
+            assertEquals(Integer.signum(first.compareTo(second)),
+                         Integer.signum(LocalDates.comparator()
+                                                  .compare(LocalDates.of(first),
+                                                           LocalDates.of(second))));
+        }
+    }
+
+    private static java.time.LocalDate randomDate(Random random) {
+        return java.time.LocalDate.of(1999 + random.nextInt(3),
+                                      1 + random.nextInt(12),
+                                      1 + random.nextInt(28));
+    }
+
+    @Nested
+    @DisplayName("convert epoch days the same way as Java Time")
+    class EpochDay {
+
+        @Test
+        @DisplayName("for every day of years from -10000 to 10000")
+        void everyDay() {
+            long first = java.time.LocalDate.of(-10_000, 1, 1)
+                                            .toEpochDay();
+            long last = java.time.LocalDate.of(10_000, 12, 31)
+                                           .toEpochDay();
+            java.time.LocalDate expected = java.time.LocalDate.ofEpochDay(first);
+            for (long epochDay = first; epochDay <= last; epochDay++) {
+                LocalDate date = LocalDates.ofEpochDay(epochDay);
+                assertDatesEqual(expected, date);
+                assertEquals(epochDay, LocalDates.toEpochDay(date));
+                expected = expected.plusDays(1);
+            }
+        }
+
+        @Test
+        @DisplayName("for sample days within the supported range")
+        void supportedRange() {
+            long first = java.time.LocalDate.of(PackedLocalDate.MIN_YEAR, 1, 1)
+                                            .toEpochDay();
+            long last = java.time.LocalDate.of(PackedLocalDate.MAX_YEAR, 12, 31)
+                                           .toEpochDay();
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                long epochDay = first + (long) (random.nextDouble() * (last - first + 1));
+                LocalDate date = LocalDates.ofEpochDay(epochDay);
+                assertDatesEqual(java.time.LocalDate.ofEpochDay(epochDay), date);
+                assertEquals(epochDay, LocalDates.toEpochDay(date));
+            }
+            assertEquals(first, LocalDates.toEpochDay(LocalDates.ofEpochDay(first)));
+            assertEquals(last, LocalDates.toEpochDay(LocalDates.ofEpochDay(last)));
+        }
+
+        @Test
+        @DisplayName("rejecting days out of the supported range")
+        void outOfRange() {
+            long last = java.time.LocalDate.of(PackedLocalDate.MAX_YEAR, 12, 31)
+                                           .toEpochDay();
+            assertThrows(IllegalArgumentException.class,
+                         () -> LocalDates.ofEpochDay(last + 1));
+        }
+
+        @Test
+        @DisplayName("rejecting invalid dates")
+        void invalidDate() {
+            LocalDate invalid = LocalDate.newBuilder()
+                                         .setYear(2017)
+                                         .setMonth(MonthOfYear.FEBRUARY)
+                                         .setDay(29)
+                                         .build();
+            assertThrows(IllegalArgumentException.class, () -> LocalDates.toEpochDay(invalid));
+        }
+    }
+
+    @Nested
+    @DisplayName("convert Timestamps the same way as Java Time")
+    class TimestampConversion {
+
+        private final Random random = new Random(42);
+        private final int[] offsets = {0, 3600, -3600, 19800, -34200, 64800, -64800};
+
+        @Test
+        @DisplayName("into dates at an offset")
+        void dateAt() {
+            long min = Timestamps.MIN_VALUE.getSeconds() + 86_400;
+            long max = Timestamps.MAX_VALUE.getSeconds() - 86_400;
+            for (int i = 0; i < 100_000; i++) {
+                long seconds = min + (long) (random.nextDouble() * (max - min));
+                int offset = offsets[random.nextInt(offsets.length)];
+                Timestamp time = Timestamps.fromSeconds(seconds);
+                java.time.LocalDate expected =
+                        java.time.Instant.ofEpochSecond(seconds)
+                                         .atOffset(java.time.ZoneOffset.ofTotalSeconds(offset))
+                                         .toLocalDate();
+                assertDatesEqual(expected, LocalDates.dateAt(time, ZoneOffsets.ofSeconds(offset)));
+            }
+        }
+
+        @Test
+        @DisplayName("from the start of a date at an offset")
+        void toTimestamp() {
+            for (int i = 0; i < 100_000; i++) {
+                java.time.LocalDate date = java.time.LocalDate.ofEpochDay(
+                        random.nextInt(3_000_000) - 700_000);
+                int offset = offsets[random.nextInt(offsets.length)];
+                java.time.Instant expected =
+                        date.atStartOfDay()
+                            .toInstant(java.time.ZoneOffset.ofTotalSeconds(offset));
+                Timestamp actual = LocalDates.toTimestamp(LocalDates.of(date),
+                                                          ZoneOffsets.ofSeconds(offset));
+                assertEquals(expected.getEpochSecond(), actual.getSeconds());
+                assertEquals(0, actual.getNanos());
+            }
+        }
+
+        @Test
+        @DisplayName("rejecting dates out of the Timestamp range")
+        void outOfRange() {
+            LocalDate date = LocalDates.of(10_000, MonthOfYear.JANUARY, 1);
+            assertThrows(IllegalArgumentException.class,
+                         () -> LocalDates.toTimestamp(date, ZoneOffsets.utc()));
+            assertTrue(Timestamps.isValid(
+                    LocalDates.toTimestamp(LocalDates.of(9_999, MonthOfYear.DECEMBER, 31),
+                                           ZoneOffsets.utc())));
+        }
+    }
+
+    @Nested
+    @DisplayName("perform calendar arithmetic the same way as Java Time")
+    class Arithmetic {
+
+        private static final int ROUNDS = 100_000;
+
+        private final Random random = new Random(42);
+
+        @Test
+        @DisplayName("adding days")
+        void plusDays() {
+            for (int i = 0; i < ROUNDS; i++) {
+                java.time.LocalDate date = randomDate();
+                long days = random.nextInt(2_000_001) - 1_000_000;
+                assertDatesEqual(date.plusDays(days),
+                                 LocalDates.plusDays(LocalDates.of(date), days));
+                assertDatesEqual(date.minusDays(days),
+                                 LocalDates.minusDays(LocalDates.of(date), days));
+            }
+        }
+
+        @Test
+        @DisplayName("adding months")
+        void plusMonths() {
+            for (int i = 0; i < ROUNDS; i++) {
+                java.time.LocalDate date = randomDate();
+                long months = random.nextInt(20_001) - 10_000;
+                assertDatesEqual(date.plusMonths(months),
+                                 LocalDates.plusMonths(LocalDates.of(date), months));
+            }
+        }
+
+        @Test
+        @DisplayName("adding years")
+        void plusYears() {
+            for (int i = 0; i < ROUNDS; i++) {
+                java.time.LocalDate date = randomDate();
+                long years = random.nextInt(2_001) - 1_000;
+                assertDatesEqual(date.plusYears(years),
+                                 LocalDates.plusYears(LocalDates.of(date), years));
+            }
+        }
+
+        @Test
+        @DisplayName("clamping the day to the end of the month")
+        void clampDay() {
+            LocalDate endOfJanuary = LocalDates.of(2016, MonthOfYear.JANUARY, 31);
+            assertEquals(LocalDates.of(2016, MonthOfYear.FEBRUARY, 29),
+                         LocalDates.plusMonths(endOfJanuary, 1));
+            assertEquals(LocalDates.of(2017, MonthOfYear.FEBRUARY, 28),
+                         LocalDates.plusMonths(endOfJanuary, 13));
+            assertEquals(LocalDates.of(2017, MonthOfYear.FEBRUARY, 28),
+                         LocalDates.plusYears(LocalDates.of(2016, MonthOfYear.FEBRUARY, 29), 1));
+        }
+
+        @Test
+        @DisplayName("counting days between dates")
+        void daysBetween() {
+            for (int i = 0; i < ROUNDS; i++) {
+                java.time.LocalDate first = randomDate();
+                java.time.LocalDate second = randomDate();
+                assertEquals(ChronoUnit.DAYS.between(first, second),
+                             LocalDates.daysBetween(LocalDates.of(first), LocalDates.of(second)));
+            }
+        }
+
+        @Test
+        @DisplayName("obtaining the day of week, day of year, and ISO week")
+        void fields() {
+            java.time.LocalDate date = java.time.LocalDate.of(-1000, 1, 1);
+            java.time.LocalDate end = java.time.LocalDate.of(3000, 1, 1);
+            while (date.isBefore(end)) {
+                LocalDate value = LocalDates.of(date);
+                assertEquals(date.getDayOfWeek()
+                                 .getValue(), LocalDates.dayOfWeek(value));
+                assertEquals(date.getDayOfYear(), LocalDates.dayOfYear(value));
+                assertEquals(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                             LocalDates.isoWeekOfYear(value));
+                assertEquals(date.get(IsoFields.WEEK_BASED_YEAR),
+                             LocalDates.isoWeekBasedYear(value));
+                date = date.plusDays(1);
+            }
+        }
+
+        @Test
+        @DisplayName("rejecting invalid dates")
+        void rejectInvalid() {
+            LocalDate invalid = LocalDate.newBuilder()
+                                         .setYear(2018)
+                                         .setMonth(MonthOfYear.APRIL)
+                                         .setDay(31)
+                                         .build();
+            assertThrows(IllegalArgumentException.class, () -> LocalDates.plusDays(invalid, 1));
+            assertThrows(IllegalArgumentException.class, () -> LocalDates.plusMonths(invalid, 1));
+            assertThrows(IllegalArgumentException.class, () -> LocalDates.dayOfYear(invalid));
+            assertThrows(IllegalArgumentException.class,
+                         () -> LocalDates.plusYears(LocalDates.now(), PackedLocalDate.MAX_YEAR));
+        }
+
+        private java.time.LocalDate randomDate() {
+            return java.time.LocalDate.ofEpochDay(random.nextInt(1_000_000) - 500_000);
+        }
+    }
 }
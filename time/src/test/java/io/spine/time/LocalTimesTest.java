@@ -22,12 +22,18 @@ package io.spine.time;
 
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import io.spine.base.Time;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
 import static io.spine.time.LocalTimes.of;
@@ -70,6 +76,74 @@ class LocalTimesTest {
         assertEquals(now.getNano(), javaTime.getNano());
     }
 
+    @Nested
+    @DisplayName("Obtain time at offset")
+    class TimeAt {
+
+        @Test
+        @DisplayName("the same way as Java Time with nanosecond precision")
+        void sameAsJavaTime() {
+            Random random = new Random(42);
+            int[] offsets = {0, 3600, -18000, 19800, -34200, 64800, -64800};
+            for (int i = 0; i < 10_000; i++) {
+                long seconds = (long) (random.nextDouble() * 20_000_000_000L) - 10_000_000_000L;
+                int nanos = random.nextInt(NANOS_PER_SECOND);
+                int offset = offsets[random.nextInt(offsets.length)];
+                Timestamp time = Timestamp
+                        .newBuilder()
+                        .setSeconds(seconds)
+                        .setNanos(nanos)
+                        .build();
+                ZoneOffset zoneOffset = ZoneOffsets.ofSeconds(offset);
+                java.time.LocalTime expected = Instant
+                        .ofEpochSecond(seconds, nanos)
+                        .atOffset(java.time.ZoneOffset.ofTotalSeconds(offset))
+                        .toLocalTime();
+
+                assertEquals(of(expected), LocalTimes.timeAt(time, zoneOffset));
+                assertEquals(expected.toNanoOfDay(), LocalTimes.nanoOfDayAt(time, zoneOffset));
+            }
+        }
+
+        @Test
+        @DisplayName("from epoch nanoseconds")
+        void epochNanos() {
+            Random random = new Random(42);
+            ZoneOffset zoneOffset = ZoneOffsets.ofHoursMinutes(-5, -30);
+            for (int i = 0; i < 10_000; i++) {
+                long epochNanos = random.nextLong();
+                Timestamp time = Timestamps.fromNanos(epochNanos);
+                assertEquals(LocalTimes.nanoOfDayAt(time, zoneOffset),
+                             LocalTimes.nanoOfDayAt(epochNanos, zoneOffset));
+            }
+        }
+
+        @Test
+        @DisplayName("for extreme epoch nanoseconds")
+        void extremeEpochNanos() {
+            ZoneOffset zoneOffset = ZoneOffsets.ofHours(18);
+            long[] values = {Long.MIN_VALUE, Long.MAX_VALUE};
+            for (long value : values) {
+                long expected = Instant.ofEpochSecond(0, value)
+                                       .atOffset(java.time.ZoneOffset.ofHours(18))
+                                       .toLocalTime()
+                                       .toNanoOfDay();
+                assertEquals(expected, LocalTimes.nanoOfDayAt(value, zoneOffset));
+            }
+        }
+
+        @Test
+        @DisplayName("rejecting invalid Timestamp")
+        void rejectInvalid() {
+            Timestamp invalid = Timestamp
+                    .newBuilder()
+                    .setNanos(-1)
+                    .build();
+            assertThrows(IllegalArgumentException.class,
+                         () -> LocalTimes.timeAt(invalid, ZoneOffsets.utc()));
+        }
+    }
+
     @Nested
     @DisplayName("Create new instance by")
     class Create {
@@ -244,4 +318,86 @@ class LocalTimesTest {
         LocalTime convertedBack = parse(str);
         assertEquals(localTime, convertedBack);
     }
+
+    @Nested
+    @DisplayName("Format")
+    class Format {
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            int[] nanos = {0, 1, 10, 1_000, 120_000, 1_000_000, 500_000_000, 999_999_999};
+            for (int nano : nanos) {
+                for (int second : new int[]{0, 9, 59}) {
+                    java.time.LocalTime jt = java.time.LocalTime.of(23, 5, second, nano);
+                    assertEquals(jt.toString(), LocalTimes.toString(of(jt)));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("into existing StringBuilder")
+        void appendToBuilder() {
+            StringBuilder builder = new StringBuilder("at ");
+            LocalTimes.appendTo(builder, of(9, 37));
+            assertEquals("at 09:37", builder.toString());
+        }
+
+        @Test
+        @DisplayName("and reject invalid values")
+        void rejectInvalid() {
+            LocalTime invalid = LocalTime
+                    .newBuilder()
+                    .setHour(25)
+                    .build();
+            assertThrows(DateTimeException.class, () -> LocalTimes.toString(invalid));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class Parse {
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            String[] values = {
+                    "00:00", "23:59", "12:30:00", "12:30:45", "12:30:45.1", "12:30:45.12",
+                    "12:30:45.123", "12:30:45.1234", "12:30:45.000001", "12:30:45.123456789"
+            };
+            for (String value : values) {
+                assertEquals(of(java.time.LocalTime.parse(value)), parse(value));
+            }
+        }
+
+        @Test
+        @DisplayName("and reject invalid values")
+        void rejectInvalid() {
+            String[] values = {
+                    "24:00", "12:60", "12:30:60", "1:30", "12-30", "12:30:45.1234567890",
+                    "12:30:4", "12:3O"
+            };
+            for (String value : values) {
+                assertThrows(DateTimeParseException.class, () -> parse(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("compare values the same way as Java Time")
+    void compare() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            java.time.LocalTime first = randomTime(random);
+            java.time.LocalTime second = randomTime(random);
+            assertEquals(Integer.signum(first.compareTo(second)),
+                         Integer.signum(LocalTimes.comparator()
+                                                  .compare(of(first), of(second))));
+        }
+    }
+
+    private static java.time.LocalTime randomTime(Random random) {
+        return java.time.LocalTime.of(random.nextInt(24), random.nextInt(2) * 59,
+                                      random.nextInt(2) * 59, random.nextInt(2));
+    }
 }
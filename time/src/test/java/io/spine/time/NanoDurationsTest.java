@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static io.spine.time.NanoDurations.add;
+import static io.spine.time.NanoDurations.compare;
+import static io.spine.time.NanoDurations.divide;
+import static io.spine.time.NanoDurations.fromHours;
+import static io.spine.time.NanoDurations.fromHoursAndMinutes;
+import static io.spine.time.NanoDurations.fromMillis;
+import static io.spine.time.NanoDurations.fromMinutes;
+import static io.spine.time.NanoDurations.fromSeconds;
+import static io.spine.time.NanoDurations.getMinutes;
+import static io.spine.time.NanoDurations.multiply;
+import static io.spine.time.NanoDurations.of;
+import static io.spine.time.NanoDurations.subtract;
+import static io.spine.time.NanoDurations.toDuration;
+import static io.spine.time.NanoDurations.toHours;
+import static io.spine.time.NanoDurations.toMillis;
+import static io.spine.time.NanoDurations.toMinutes;
+import static io.spine.time.NanoDurations.toSeconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"ClassCanBeStatic", "InnerClassMayBeStatic"})
+@DisplayName("NanoDurations should")
+class NanoDurationsTest {
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityConstructor() {
+        assertHasPrivateParameterlessCtor(NanoDurations.class);
+    }
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(Duration.class, Durations2.ZERO)
+                .testAllPublicStaticMethods(NanoDurations.class);
+    }
+
+    @Test
+    @DisplayName("convert to and from Duration")
+    void convertDuration() {
+        Duration duration = Durations2.add(Durations2.hours(-3), Durations2.nanos(-7));
+        long nanos = of(duration);
+
+        assertEquals(Durations2.toNanos(duration), nanos);
+        assertEquals(duration, toDuration(nanos));
+    }
+
+    @Nested
+    @DisplayName("convert units")
+    class Units {
+
+        @Test
+        @DisplayName("to nanoseconds")
+        void toNanos() {
+            assertEquals(Durations2.toNanos(Durations2.milliseconds(-42)), fromMillis(-42));
+            assertEquals(Durations2.toNanos(Durations2.seconds(42)), fromSeconds(42));
+            assertEquals(Durations2.toNanos(Durations2.minutes(42)), fromMinutes(42));
+            assertEquals(Durations2.toNanos(Durations2.hours(42)), fromHours(42));
+            assertEquals(Durations2.toNanos(Durations2.hoursAndMinutes(4, 30)),
+                         fromHoursAndMinutes(4, 30));
+        }
+
+        @Test
+        @DisplayName("from nanoseconds truncating towards zero")
+        void fromNanos() {
+            long nanos = add(fromHoursAndMinutes(2, 59), 999_999_999);
+            assertEquals(2, toHours(nanos));
+            assertEquals(179, toMinutes(nanos));
+            assertEquals(59, getMinutes(nanos));
+            assertEquals(179 * 60, toSeconds(nanos));
+            assertEquals(179 * 60 * 1000 + 999, toMillis(nanos));
+
+            assertEquals(-2, toHours(-nanos));
+            assertEquals(-59, getMinutes(-nanos));
+            assertEquals(-(179 * 60), toSeconds(-nanos));
+        }
+
+        @Test
+        @DisplayName("and check for overflow")
+        void overflow() {
+            assertThrows(ArithmeticException.class, () -> fromHours(Long.MAX_VALUE / 1000));
+            assertThrows(ArithmeticException.class, () -> of(Durations2.hours(24 * 365 * 300)));
+        }
+    }
+
+    @Nested
+    @DisplayName("perform arithmetic")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("with exact results")
+        void exact() {
+            long hour = fromHours(1);
+            long minute = fromMinutes(1);
+
+            assertEquals(fromMinutes(61), add(hour, minute));
+            assertEquals(fromMinutes(59), subtract(hour, minute));
+            assertEquals(fromMinutes(150), multiply(minute, 150));
+            assertEquals(fromSeconds(90), divide(fromMinutes(3), 2));
+            assertTrue(compare(minute, hour) < 0);
+            assertEquals(0, compare(hour, fromMinutes(60)));
+        }
+
+        @Test
+        @DisplayName("checking for overflow")
+        void overflow() {
+            assertThrows(ArithmeticException.class, () -> add(Long.MAX_VALUE, 1));
+            assertThrows(ArithmeticException.class, () -> subtract(Long.MIN_VALUE, 1));
+            assertThrows(ArithmeticException.class, () -> multiply(Long.MAX_VALUE, 2));
+            assertThrows(ArithmeticException.class, () -> divide(Long.MIN_VALUE, -1));
+            assertThrows(ArithmeticException.class, () -> divide(1, 0));
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import io.spine.time.OffsetDateTimeBatch.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("OffsetDateTimeBatch should")
+class OffsetDateTimeBatchTest {
+
+    private static final int SIZE = 10_000;
+    private static final int BOUNDARY_STEP = 4096;
+    private static final int RUN_LENGTH = 32;
+    private static final String[] ZONES = {
+            "UTC", "Europe/London", "America/Sao_Paulo", "Asia/Kathmandu", "Australia/Lord_Howe"
+    };
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(ZoneId.class, ZoneIds.of("UTC"))
+                .setDefault(ZoneOffset.class, ZoneOffsets.utc())
+                .testAllPublicStaticMethods(OffsetDateTimeBatch.class);
+        new NullPointerTester()
+                .testAllPublicInstanceMethods(OffsetDateTimeBatch.of(new long[1],
+                                                                     ZoneOffsets.utc()));
+    }
+
+    @Nested
+    @DisplayName("convert values the same way as Java Time")
+    class Convert {
+
+        @Test
+        @DisplayName("at offset")
+        void atOffset() {
+            long[] epochNanos = randomEpochNanos(new Random(42), SIZE);
+            int[] offsets = {0, 3600, -18000, 19800, -34200, 64800, -64800};
+            for (int offset : offsets) {
+                OffsetDateTimeBatch batch =
+                        OffsetDateTimeBatch.of(epochNanos, ZoneOffsets.ofSeconds(offset));
+                java.time.ZoneOffset javaOffset = java.time.ZoneOffset.ofTotalSeconds(offset);
+                for (int i = 0; i < SIZE; i++) {
+                    java.time.OffsetDateTime expected = instant(epochNanos[i]).atOffset(javaOffset);
+                    assertEquals(OffsetDateTimes.of(expected), batch.get(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("in time zone")
+        void inZone() {
+            long[] epochNanos = randomEpochNanos(new Random(42), SIZE);
+            assertSameAsJavaTime(epochNanos);
+        }
+
+        @Test
+        @DisplayName("in time zone for sorted values")
+        void sorted() {
+            long[] epochNanos = randomEpochNanos(new Random(42), SIZE);
+            Arrays.sort(epochNanos);
+            assertSameAsJavaTime(epochNanos);
+        }
+
+        private void assertSameAsJavaTime(long[] epochNanos) {
+            for (String zone : ZONES) {
+                OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(epochNanos, ZoneIds.of(zone));
+                java.time.ZoneId javaZone = java.time.ZoneId.of(zone);
+                for (int i = 0; i < epochNanos.length; i++) {
+                    java.time.OffsetDateTime expected = instant(epochNanos[i])
+                            .atZone(javaZone)
+                            .toOffsetDateTime();
+                    assertEquals(OffsetDateTimes.of(expected), batch.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("convert large batches in parallel")
+    void parallel() {
+        int size = OffsetDateTimeBatch.PARALLEL_THRESHOLD * 3 + 17;
+        long[] epochNanos = randomEpochNanos(new Random(42), size);
+        ZoneId zoneId = ZoneIds.of("America/New_York");
+        assertSameFields(OffsetDateTimeBatch.of(epochNanos, zoneId),
+                         OffsetDateTimeBatch.parallelOf(epochNanos, zoneId));
+        ZoneOffset zoneOffset = ZoneOffsets.ofHoursMinutes(-3, -30);
+        assertSameFields(OffsetDateTimeBatch.of(epochNanos, zoneOffset),
+                         OffsetDateTimeBatch.parallelOf(epochNanos, zoneOffset));
+    }
+
+    @Test
+    @DisplayName("convert in a pool with several threads across transitions and day changes")
+    void parallelChunks() {
+        java.time.ZoneId javaZone = java.time.ZoneId.of("America/New_York");
+        java.time.ZoneOffset javaOffset = java.time.ZoneOffset.ofHours(-5);
+        long[] epochNanos = chunkBoundaryEpochNanos(javaZone, javaOffset);
+        ZoneId zoneId = ZoneIds.of(javaZone.getId());
+        ZoneOffset zoneOffset = ZoneOffsets.of(javaOffset);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameFields(OffsetDateTimeBatch.of(epochNanos, zoneId),
+                             OffsetDateTimeBatch.parallelOf(epochNanos, zoneId, pool));
+            assertSameFields(OffsetDateTimeBatch.of(epochNanos, zoneOffset),
+                             OffsetDateTimeBatch.parallelOf(epochNanos, zoneOffset, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Generates random values with runs of consecutive seconds around the daylight saving time
+     * transitions of the zone and around a midnight at the offset, which is also a midnight in
+     * the zone. The runs are placed at each index divisible by {@value #BOUNDARY_STEP}, so that
+     * each kind of event falls on a boundary of the chunks of the parallel conversion.
+     */
+    private static long[] chunkBoundaryEpochNanos(java.time.ZoneId zone,
+                                                  java.time.ZoneOffset offset) {
+        int size = OffsetDateTimeBatch.PARALLEL_THRESHOLD;
+        long[] result = randomEpochNanos(new Random(42), size);
+        ZoneRules rules = zone.getRules();
+        for (int boundary = BOUNDARY_STEP, n = 0; boundary < size; boundary += BOUNDARY_STEP, n++) {
+            int year = 2000 + n;
+            Instant newYear = Instant.parse(year + "-01-01T00:00:00Z");
+            ZoneOffsetTransition spring = rules.nextTransition(newYear);
+            ZoneOffsetTransition autumn = rules.nextTransition(spring.getInstant());
+            Instant[] events = {
+                    spring.getInstant(),
+                    autumn.getInstant(),
+                    java.time.LocalDate.of(year, 1, 2)
+                                       .atStartOfDay(offset)
+                                       .toInstant()
+            };
+            Instant event = events[n % events.length];
+            for (int k = -RUN_LENGTH; k < RUN_LENGTH; k++) {
+                result[boundary + k] = (event.getEpochSecond() + k) * 1_000_000_000L + 1;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("provide fields")
+    void fields() {
+        long epochNanos = 1_532_095_200_123_456_789L;
+        OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(new long[]{epochNanos},
+                                                           ZoneOffsets.ofHours(2));
+        int[] expected = {2018, 7, 20, 16, 0, 0, 123_456_789, 7200};
+        for (Field field : Field.values()) {
+            assertEquals(expected[field.ordinal()], batch.get(field, 0));
+            assertArrayEquals(new int[]{expected[field.ordinal()]}, batch.toArray(field));
+        }
+    }
+
+    @Test
+    @DisplayName("provide copies of field arrays")
+    void toArrayCopy() {
+        OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(new long[]{0}, ZoneOffsets.utc());
+        batch.toArray(Field.YEAR)[0] = 2000;
+        assertEquals(1970, batch.get(Field.YEAR, 0));
+    }
+
+    @Test
+    @DisplayName("provide list view")
+    void asList() {
+        long[] epochNanos = randomEpochNanos(new Random(42), 100);
+        OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(epochNanos, ZoneIds.of(ZONES[1]));
+        List<OffsetDateTime> list = batch.asList();
+        assertEquals(epochNanos.length, list.size());
+        for (int i = 0; i < epochNanos.length; i++) {
+            assertEquals(batch.get(i), list.get(i));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> list.add(batch.get(0)));
+    }
+
+    @Test
+    @DisplayName("reject index out of batch")
+    void index() {
+        OffsetDateTimeBatch batch = OffsetDateTimeBatch.of(new long[2], ZoneOffsets.utc());
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(Field.DAY, -1));
+    }
+
+    private static void assertSameFields(OffsetDateTimeBatch expected,
+                                         OffsetDateTimeBatch actual) {
+        assertEquals(expected.size(), actual.size());
+        for (Field field : Field.values()) {
+            assertArrayEquals(expected.toArray(field), actual.toArray(field));
+        }
+    }
+
+    /**
+     * Generates runs of close values at random points in time.
+     */
+    private static long[] randomEpochNanos(Random random, int size) {
+        long[] result = new long[size];
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            value = random.nextInt(8) == 0
+                    ? random.nextLong()
+                    : value + random.nextInt(Integer.MAX_VALUE) * 1_000L;
+            result[i] = value;
+        }
+        return result;
+    }
+
+    private static Instant instant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+}
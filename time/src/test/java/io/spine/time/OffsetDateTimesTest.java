@@ -20,16 +20,24 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Timestamp;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
 import static io.spine.time.OffsetDateTimes.of;
 import static io.spine.time.OffsetDateTimes.toJavaTime;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("ClassCanBeStatic")
 @DisplayName("OffsetDateTimes should")
@@ -96,6 +104,159 @@ public class OffsetDateTimesTest extends AbstractZonedTimeTest {
         }
     }
 
+    @Nested
+    @DisplayName("Convert to string")
+    class Stringify {
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            for (java.time.OffsetDateTime jt : javaTimeSamples()) {
+                assertEquals(jt.toString(), OffsetDateTimes.toString(of(jt)));
+            }
+        }
+
+        @Test
+        @DisplayName("with a year out of four digits")
+        void longYear() {
+            java.time.OffsetDateTime jt = java.time.OffsetDateTime.of(
+                    12345, 1, 2, 3, 4, 5, 6, java.time.ZoneOffset.ofHours(-3));
+            assertEquals(jt.toString(), OffsetDateTimes.toString(of(jt)));
+        }
+
+        @Test
+        @DisplayName("into existing StringBuilder")
+        void appendToBuilder() {
+            OffsetDateTime value = of(gmtToday, now, ZoneOffsets.ofHoursMinutes(-5, -30));
+            StringBuilder builder = new StringBuilder("at ");
+            OffsetDateTimes.appendTo(builder, value);
+            assertEquals("at 2012-07-16T09:30:23.000000122-05:30", builder.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class Parse {
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            for (java.time.OffsetDateTime jt : javaTimeSamples()) {
+                String str = jt.toString();
+                assertEquals(of(java.time.OffsetDateTime.parse(str)),
+                             OffsetDateTimes.parse(str));
+            }
+        }
+
+        @Test
+        @DisplayName("values not produced by Java Time")
+        void nonCanonical() {
+            OffsetDateTime expected = OffsetDateTimes.parse("2012-07-16T09:30+02:00");
+            assertEquals(expected, OffsetDateTimes.parse("2012-07-16t09:30+02:00"));
+            assertEquals(expected, OffsetDateTimes.parse("2012-07-16T09:30:00+02:00"));
+        }
+
+        @Test
+        @DisplayName("and reject invalid values")
+        void rejectInvalid() {
+            String[] values = {
+                    "2012-02-30T09:30Z", "2012-07-16T24:30Z", "2012-07-16T09:30+19:00",
+                    "2012-07-16T09:30", "2012-07-16 09:30Z"
+            };
+            for (String value : values) {
+                assertThrows(DateTimeParseException.class, () -> OffsetDateTimes.parse(value));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Obtain date/time at a point in time")
+    class DateTimeAt {
+
+        @Test
+        @DisplayName("at offset the same way as Java Time")
+        void atOffset() {
+            Random random = new Random(42);
+            int[] offsets = {0, 3600, -18000, 19800, -34200, 64800, -64800};
+            for (int i = 0; i < 10_000; i++) {
+                Timestamp time = randomTimestamp(random);
+                int offset = offsets[random.nextInt(offsets.length)];
+                java.time.OffsetDateTime expected =
+                        Instant.ofEpochSecond(time.getSeconds(), time.getNanos())
+                               .atOffset(java.time.ZoneOffset.ofTotalSeconds(offset));
+                assertEquals(of(expected),
+                             OffsetDateTimes.dateTimeAt(time, ZoneOffsets.ofSeconds(offset)));
+            }
+        }
+
+        @Test
+        @DisplayName("in time zone the same way as Java Time")
+        void inZone() {
+            Random random = new Random(42);
+            String[] zones = {"Europe/London", "America/Sao_Paulo", "Asia/Kathmandu"};
+            for (int i = 0; i < 10_000; i++) {
+                Timestamp time = randomTimestamp(random);
+                String zone = zones[random.nextInt(zones.length)];
+                java.time.OffsetDateTime expected =
+                        Instant.ofEpochSecond(time.getSeconds(), time.getNanos())
+                               .atZone(java.time.ZoneId.of(zone))
+                               .toOffsetDateTime();
+                assertEquals(of(expected),
+                             OffsetDateTimes.dateTimeAt(time, ZoneIds.of(zone)));
+            }
+        }
+
+        private Timestamp randomTimestamp(Random random) {
+            long seconds = (long) (random.nextDouble() * 20_000_000_000L) - 10_000_000_000L;
+            return Timestamp
+                    .newBuilder()
+                    .setSeconds(seconds)
+                    .setNanos(random.nextInt(1_000_000_000))
+                    .build();
+        }
+    }
+
+    @Test
+    @DisplayName("compare values the same way as Java Time")
+    void compare() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            java.time.OffsetDateTime first = randomDateTime(random);
+            java.time.OffsetDateTime second = randomDateTime(random);
+            assertEquals(Integer.signum(first.compareTo(second)),
+                         Integer.signum(OffsetDateTimes.comparator()
+                                                       .compare(of(first), of(second))));
+        }
+    }
+
+    /**
+     * Generates values which often denote the same instant at different offsets.
+     */
+    private static java.time.OffsetDateTime randomDateTime(Random random) {
+        int[] offsetHours = {-18, -1, 0, 1, 18};
+        return java.time.OffsetDateTime.of(
+                YEAR, MONTH.getNumber(), DAY + random.nextInt(3), random.nextInt(24),
+                random.nextInt(2) * 30, 0, random.nextInt(2),
+                java.time.ZoneOffset.ofHours(offsetHours[random.nextInt(offsetHours.length)])
+        );
+    }
+
+    private static List<java.time.OffsetDateTime> javaTimeSamples() {
+        List<java.time.OffsetDateTime> result = new ArrayList<>();
+        int[] offsets = {0, 3600, -3600, 19800, -34200, 45296, -64800, 64800};
+        int[] nanos = {0, 1_000_000, 123_456_000, 122};
+        for (int offset : offsets) {
+            for (int nano : nanos) {
+                result.add(java.time.OffsetDateTime.of(
+                        YEAR, MONTH.getNumber(), DAY, HOURS, MINUTES, nano == 0 ? 0 : SECONDS,
+                        nano, java.time.ZoneOffset.ofTotalSeconds(offset)));
+            }
+        }
+        result.add(java.time.OffsetDateTime.of(
+                1, 1, 1, 0, 0, 0, 0, java.time.ZoneOffset.UTC));
+        return result;
+    }
+
     private static void assertEqualDateTime(java.time.OffsetDateTime jt, OffsetDateTime ot) {
         LocalDate date = ot.getDate();
         assertEquals(jt.getYear(), date.getYear());
@@ -26,6 +26,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static io.spine.base.Time.getCurrentTime;
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.TestValues.random;
@@ -98,4 +100,34 @@ class OffsetTimesTest extends AbstractZonedTimeTest {
                 .setDefault(LocalTime.class, LocalTimes.now())
                 .testAllPublicStaticMethods(OffsetTimes.class);
     }
+
+    @Test
+    @DisplayName("compare values the same way as Java Time")
+    void compare() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            java.time.OffsetTime first = randomOffsetTime(random);
+            java.time.OffsetTime second = randomOffsetTime(random);
+            assertEquals(Integer.signum(first.compareTo(second)),
+                         Integer.signum(OffsetTimes.comparator()
+                                                   .compare(of(first), of(second))));
+        }
+    }
+
+    private static OffsetTime of(java.time.OffsetTime value) {
+        ZoneOffset offset = ZoneOffsets.ofSeconds(value.getOffset()
+                                                       .getTotalSeconds());
+        return OffsetTimes.of(LocalTimes.of(value.toLocalTime()), offset);
+    }
+
+    /**
+     * Generates values which often denote the same instant at different offsets.
+     */
+    private static java.time.OffsetTime randomOffsetTime(Random random) {
+        int[] offsetHours = {-1, 0, 1, 2};
+        return java.time.OffsetTime.of(
+                random.nextInt(24), random.nextInt(2) * 30, 0, random.nextInt(2),
+                java.time.ZoneOffset.ofHours(offsetHours[random.nextInt(offsetHours.length)])
+        );
+    }
 }
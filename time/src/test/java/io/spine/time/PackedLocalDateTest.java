@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static io.spine.time.PackedLocalDate.MAX_YEAR;
+import static io.spine.time.PackedLocalDate.MIN_YEAR;
+import static io.spine.time.PackedLocalDate.compare;
+import static io.spine.time.PackedLocalDate.dayOfWeek;
+import static io.spine.time.PackedLocalDate.monthOfYear;
+import static io.spine.time.PackedLocalDate.ofEpochDay;
+import static io.spine.time.PackedLocalDate.pack;
+import static io.spine.time.PackedLocalDate.packValid;
+import static io.spine.time.PackedLocalDate.plusDays;
+import static io.spine.time.PackedLocalDate.toEpochDay;
+import static io.spine.time.PackedLocalDate.unpack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("PackedLocalDate should")
+class PackedLocalDateTest {
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityConstructor() {
+        assertHasPrivateParameterlessCtor(PackedLocalDate.class);
+    }
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullCheck() {
+        new NullPointerTester().testAllPublicStaticMethods(PackedLocalDate.class);
+    }
+
+    @Test
+    @DisplayName("pack and unpack LocalDate")
+    void packAndUnpack() {
+        LocalDate date = LocalDates.of(2018, MonthOfYear.FEBRUARY, 28);
+        int packed = pack(date);
+
+        assertEquals(2018, PackedLocalDate.year(packed));
+        assertEquals(2, PackedLocalDate.month(packed));
+        assertEquals(MonthOfYear.FEBRUARY, PackedLocalDate.monthOfYear(packed));
+        assertEquals(28, PackedLocalDate.day(packed));
+        assertEquals(date, unpack(packed));
+    }
+
+    @Test
+    @DisplayName("pack boundary years")
+    void boundaryYears() {
+        assertEquals(MIN_YEAR, PackedLocalDate.year(pack(MIN_YEAR, 1, 1)));
+        assertEquals(MAX_YEAR, PackedLocalDate.year(pack(MAX_YEAR, 12, 31)));
+        assertTrue(compare(pack(MIN_YEAR, 1, 1), pack(MAX_YEAR, 12, 31)) < 0);
+    }
+
+    @Nested
+    @DisplayName("reject")
+    class Reject {
+
+        @Test
+        @DisplayName("invalid dates")
+        void invalidDates() {
+            assertThrows(IllegalArgumentException.class, () -> pack(2017, 2, 29));
+            assertThrows(IllegalArgumentException.class, () -> pack(2017, 13, 1));
+            assertThrows(IllegalArgumentException.class, () -> pack(2017, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> pack(2017, 1, 0));
+        }
+
+        @Test
+        @DisplayName("years out of range")
+        void yearsOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> pack(MAX_YEAR + 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> pack(MIN_YEAR - 1, 1, 1));
+            assertThrows(IllegalArgumentException.class,
+                         () -> plusDays(pack(MAX_YEAR, 12, 31), 1));
+        }
+
+        @Test
+        @DisplayName("invalid packed values")
+        void invalidPackedValues() {
+            int[] invalid = {
+                    packValid(2017, 0, 1),
+                    packValid(2017, 13, 1),
+                    packValid(2017, 15, 1),
+                    packValid(2017, 1, 0),
+                    packValid(2017, 2, 29),
+                    packValid(2016, 4, 31)
+            };
+            for (int packed : invalid) {
+                assertThrows(IllegalArgumentException.class, () -> unpack(packed));
+                assertThrows(IllegalArgumentException.class, () -> monthOfYear(packed));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("calculate the same as Java Time")
+    void sameAsJavaTime() {
+        java.time.LocalDate date = java.time.LocalDate.of(-1000, 1, 1);
+        java.time.LocalDate end = java.time.LocalDate.of(3000, 1, 1);
+        int previous = Integer.MIN_VALUE;
+        while (date.isBefore(end)) {
+            int packed = pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+
+            assertEquals(date.toEpochDay(), toEpochDay(packed));
+            assertEquals(packed, ofEpochDay(date.toEpochDay()));
+            assertEquals(date.getDayOfWeek()
+                             .getValue(), dayOfWeek(packed));
+            assertEquals(date.plusDays(100)
+                             .toEpochDay(), toEpochDay(plusDays(packed, 100)));
+            assertTrue(compare(previous, packed) < 0);
+
+            previous = packed;
+            date = date.plusDays(3);
+        }
+    }
+}
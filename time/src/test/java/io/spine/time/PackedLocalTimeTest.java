@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static io.spine.time.PackedLocalTime.compare;
+import static io.spine.time.PackedLocalTime.minus;
+import static io.spine.time.PackedLocalTime.pack;
+import static io.spine.time.PackedLocalTime.plus;
+import static io.spine.time.PackedLocalTime.truncate;
+import static io.spine.time.PackedLocalTime.unpack;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("PackedLocalTime should")
+class PackedLocalTimeTest {
+
+    private static final java.time.LocalTime[] SAMPLES = {
+            java.time.LocalTime.MIDNIGHT,
+            java.time.LocalTime.of(0, 0, 0, 1),
+            java.time.LocalTime.of(9, 37, 0),
+            java.time.LocalTime.NOON,
+            java.time.LocalTime.of(13, 45, 30, 123_456_789),
+            java.time.LocalTime.MAX
+    };
+
+    private static final java.time.Duration[] DURATIONS = {
+            java.time.Duration.ZERO,
+            java.time.Duration.ofNanos(1),
+            java.time.Duration.ofNanos(-1),
+            java.time.Duration.ofMillis(-1500),
+            java.time.Duration.ofHours(25).plusNanos(7),
+            java.time.Duration.ofDays(-400).minusMinutes(3),
+            java.time.Duration.ofSeconds(315_576_000_000L, 999_999_999)
+    };
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityConstructor() {
+        assertHasPrivateParameterlessCtor(PackedLocalTime.class);
+    }
+
+    @Test
+    @DisplayName("not accept nulls")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(Duration.class, Durations2.ZERO)
+                .setDefault(TimeUnit.class, TimeUnit.SECONDS)
+                .testAllPublicStaticMethods(PackedLocalTime.class);
+    }
+
+    @Test
+    @DisplayName("pack and unpack LocalTime")
+    void packAndUnpack() {
+        for (java.time.LocalTime jt : SAMPLES) {
+            LocalTime time = LocalTimes.of(jt);
+            long packed = pack(time);
+
+            assertEquals(jt.toNanoOfDay(), packed);
+            assertEquals(time, unpack(packed));
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid values")
+    void rejectInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> pack(24, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> pack(0, 60, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> pack(0, 0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> pack(0, 0, 0, 1_000_000_000));
+    }
+
+    @Test
+    @DisplayName("add and subtract durations wrapping around midnight")
+    void plusAndMinus() {
+        for (java.time.LocalTime jt : SAMPLES) {
+            for (java.time.Duration jd : DURATIONS) {
+                long packed = jt.toNanoOfDay();
+                Duration duration = Durations.add(Durations.fromSeconds(jd.getSeconds()),
+                                                  Durations.fromNanos(jd.getNano()));
+
+                assertEquals(jt.plus(jd)
+                               .toNanoOfDay(), plus(packed, duration));
+                assertEquals(jt.minus(jd)
+                               .toNanoOfDay(), minus(packed, duration));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("truncate to a unit")
+    void truncation() {
+        java.time.LocalTime jt = java.time.LocalTime.of(13, 45, 30, 123_456_789);
+        long packed = jt.toNanoOfDay();
+
+        assertEquals(jt.truncatedTo(MILLIS)
+                       .toNanoOfDay(), truncate(packed, TimeUnit.MILLISECONDS));
+        assertEquals(jt.truncatedTo(MINUTES)
+                       .toNanoOfDay(), truncate(packed, TimeUnit.MINUTES));
+        assertEquals(jt.truncatedTo(HOURS)
+                       .toNanoOfDay(), truncate(packed, TimeUnit.HOURS));
+        assertEquals(0, truncate(packed, TimeUnit.DAYS));
+    }
+
+    @Test
+    @DisplayName("compare packed values")
+    void comparison() {
+        for (int i = 1; i < SAMPLES.length; i++) {
+            assertTrue(compare(SAMPLES[i - 1].toNanoOfDay(), SAMPLES[i].toNanoOfDay()) < 0);
+        }
+    }
+}
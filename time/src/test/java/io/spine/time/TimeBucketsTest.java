@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.time.TimeBuckets.Unit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static io.spine.time.TimeBuckets.bucketOf;
+import static io.spine.time.TimeBuckets.bucketStart;
+import static io.spine.time.TimeBuckets.bucketsOf;
+import static io.spine.time.TimeBuckets.truncate;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("TimeBuckets should")
+class TimeBucketsTest {
+
+    private static final int SAMPLES = 10_000;
+    private static final int[] OFFSETS = {0, 3600, -18000, 19800, -34200, 64800, -64800};
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityConstructor() {
+        assertHasPrivateParameterlessCtor(TimeBuckets.class);
+    }
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(Timestamp.class, Timestamps.fromSeconds(0))
+                .setDefault(ZoneOffset.class, ZoneOffsets.utc())
+                .testAllPublicStaticMethods(TimeBuckets.class);
+    }
+
+    @Nested
+    @DisplayName("truncate a point in time the same way as Java Time to")
+    class Truncate {
+
+        @Test
+        @DisplayName("minute")
+        void minute() {
+            assertSameAsJavaTime(Unit.MINUTE);
+        }
+
+        @Test
+        @DisplayName("hour")
+        void hour() {
+            assertSameAsJavaTime(Unit.HOUR);
+        }
+
+        @Test
+        @DisplayName("day")
+        void day() {
+            assertSameAsJavaTime(Unit.DAY);
+        }
+
+        @Test
+        @DisplayName("ISO week")
+        void week() {
+            assertSameAsJavaTime(Unit.WEEK);
+        }
+
+        @Test
+        @DisplayName("month")
+        void month() {
+            assertSameAsJavaTime(Unit.MONTH);
+        }
+    }
+
+    @Test
+    @DisplayName("number buckets from the start of 1970 at the offset")
+    void zeroBucket() {
+        ZoneOffset offset = ZoneOffsets.ofHours(2);
+        Timestamp localEpoch = Timestamps.fromSeconds(-7200);
+        for (Unit unit : new Unit[]{Unit.MINUTE, Unit.HOUR, Unit.DAY, Unit.MONTH}) {
+            assertEquals(0, bucketOf(localEpoch, offset, unit));
+            assertEquals(-1, bucketOf(Timestamps.fromNanos(-7_200_000_000_001L), offset, unit));
+        }
+        // 1970-01-01 is Thursday, so the week started on Monday before it.
+        assertEquals(0, bucketOf(localEpoch, offset, Unit.WEEK));
+        assertEquals(Timestamps.fromSeconds(-3 * 86400 - 7200),
+                     bucketStart(0, offset, Unit.WEEK));
+    }
+
+    @Test
+    @DisplayName("obtain the same keys in bulk")
+    void bulk() {
+        Random random = new Random(42);
+        long[] epochNanos = new long[SAMPLES];
+        long value = -1_000_000_000_000_000L;
+        for (int i = 0; i < SAMPLES; i++) {
+            value += (long) (random.nextDouble() * 1_000_000_000_000_000L);
+            epochNanos[i] = random.nextInt(10) == 0
+                            ? random.nextLong()
+                            : value;
+        }
+        for (Unit unit : Unit.values()) {
+            for (int offset : OFFSETS) {
+                ZoneOffset zoneOffset = ZoneOffsets.ofSeconds(offset);
+                long[] expected = new long[SAMPLES];
+                for (int i = 0; i < SAMPLES; i++) {
+                    expected[i] = bucketOf(epochNanos[i], zoneOffset, unit);
+                }
+                assertArrayEquals(expected, bucketsOf(epochNanos, zoneOffset, unit));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reject bucket start which cannot be a Timestamp")
+    void outOfRange() {
+        ZoneOffset utc = ZoneOffsets.utc();
+        assertThrows(IllegalArgumentException.class,
+                     () -> bucketStart(Long.MAX_VALUE / 86400, utc, Unit.MINUTE));
+        assertThrows(IllegalArgumentException.class,
+                     () -> bucketStart(10_000 * 12, utc, Unit.MONTH));
+        assertThrows(ArithmeticException.class,
+                     () -> bucketStart(Long.MAX_VALUE, utc, Unit.DAY));
+    }
+
+    private static void assertSameAsJavaTime(Unit unit) {
+        Random random = new Random(unit.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long seconds = (long) (random.nextDouble() * 20_000_000_000L) - 10_000_000_000L;
+            int nanos = random.nextInt(1_000_000_000);
+            int offset = OFFSETS[random.nextInt(OFFSETS.length)];
+            Timestamp time = Timestamp
+                    .newBuilder()
+                    .setSeconds(seconds)
+                    .setNanos(nanos)
+                    .build();
+            ZoneOffset zoneOffset = ZoneOffsets.ofSeconds(offset);
+
+            java.time.OffsetDateTime expected = javaTimeTruncate(
+                    Instant.ofEpochSecond(seconds, nanos)
+                           .atOffset(java.time.ZoneOffset.ofTotalSeconds(offset)),
+                    unit);
+            Timestamp expectedStart = Timestamps.fromSeconds(expected.toEpochSecond());
+            long expectedBucket = javaTimeBucket(expected.toLocalDateTime(), unit);
+
+            assertEquals(expectedStart, truncate(time, zoneOffset, unit));
+            assertEquals(expectedBucket, bucketOf(time, zoneOffset, unit));
+            assertEquals(expectedStart, bucketStart(expectedBucket, zoneOffset, unit));
+            if (Math.abs(seconds) < 9_000_000_000L) {
+                long epochNanos = Timestamps.toNanos(time);
+                assertEquals(expectedBucket, bucketOf(epochNanos, zoneOffset, unit));
+                assertEquals(expectedStart, truncate(epochNanos, zoneOffset, unit));
+            }
+        }
+    }
+
+    private static java.time.OffsetDateTime javaTimeTruncate(java.time.OffsetDateTime value,
+                                                             Unit unit) {
+        switch (unit) {
+            case MINUTE:
+                return value.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR:
+                return value.truncatedTo(ChronoUnit.HOURS);
+            case DAY:
+                return value.truncatedTo(ChronoUnit.DAYS);
+            case WEEK:
+                return value.truncatedTo(ChronoUnit.DAYS)
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return value.truncatedTo(ChronoUnit.DAYS)
+                            .withDayOfMonth(1);
+            default:
+                throw new IllegalArgumentException(unit.name());
+        }
+    }
+
+    private static long javaTimeBucket(LocalDateTime start, Unit unit) {
+        long localSeconds = start.toEpochSecond(java.time.ZoneOffset.UTC);
+        long epochDay = start.toLocalDate()
+                             .toEpochDay();
+        switch (unit) {
+            case MINUTE:
+                return localSeconds / 60;
+            case HOUR:
+                return localSeconds / 3600;
+            case DAY:
+                return epochDay;
+            case WEEK:
+                return (epochDay + 3) / 7;
+            case MONTH:
+                return (start.getYear() - 1970L) * 12 + start.getMonthValue() - 1;
+            default:
+                throw new IllegalArgumentException(unit.name());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("TimestampColumn should")
+class TimestampColumnTest {
+
+    private static final int SIZE = 1_000;
+
+    private List<Timestamp> timestamps;
+    private TimestampColumn column;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        timestamps = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            timestamps.add(Timestamps.fromNanos(random.nextInt(SIZE / 2) * 1_000L));
+        }
+        column = TimestampColumn.of(timestamps);
+    }
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .testAllPublicStaticMethods(TimestampColumn.class);
+        new NullPointerTester()
+                .setDefault(Timestamp.class, Timestamps.fromSeconds(0))
+                .setDefault(Interval.class, Intervals.between(Timestamps.fromSeconds(0),
+                                                              Timestamps.fromSeconds(1)))
+                .testAllPublicInstanceMethods(column.sort());
+    }
+
+    @Test
+    @DisplayName("keep the order of appended values")
+    void append() {
+        assertEquals(SIZE, column.size());
+        assertEquals(timestamps, column.toList());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(timestamps.get(i), column.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(SIZE));
+    }
+
+    @Test
+    @DisplayName("track if the values are sorted")
+    void trackSorted() {
+        TimestampColumn values = TimestampColumn.ofEpochNanos(1, 2, 2, 5);
+        assertTrue(values.isSorted());
+        values.append(3);
+        assertFalse(values.isSorted());
+        assertThrows(IllegalStateException.class, () -> values.lowerBound(2));
+        values.sort();
+        assertTrue(values.isSorted());
+        assertArrayEquals(new long[]{1, 2, 2, 3, 5}, values.toEpochNanos());
+    }
+
+    @Test
+    @DisplayName("sort values the same way as Timestamps")
+    void sort() {
+        List<Timestamp> expected = timestamps.stream()
+                                             .sorted(Timestamps.comparator())
+                                             .collect(toList());
+        assertEquals(expected, column.sort()
+                                     .toList());
+    }
+
+    @Nested
+    @DisplayName("when sorted, find")
+    class Search {
+
+        private List<Timestamp> sorted;
+
+        @BeforeEach
+        void sortColumn() {
+            column.sort();
+            sorted = column.toList();
+        }
+
+        @Test
+        @DisplayName("lower and upper bounds")
+        void bounds() {
+            for (int i = -1; i <= SIZE / 2; i++) {
+                Timestamp key = Timestamps.fromNanos(i * 1_000L);
+                assertEquals(TimestampSearch.lowerBound(sorted, key), column.lowerBound(key));
+                assertEquals(TimestampSearch.upperBound(sorted, key), column.upperBound(key));
+            }
+        }
+
+        @Test
+        @DisplayName("values between two timestamps")
+        void between() {
+            Timestamp start = Timestamps.fromNanos(100_000);
+            Timestamp finish = Timestamps.fromNanos(200_000);
+            List<Timestamp> expected =
+                    sorted.stream()
+                          .filter(t -> Timestamps2.isBetween(t, start, finish))
+                          .collect(toList());
+            assertEquals(expected, column.between(start, finish)
+                                         .toList());
+            assertTrue(column.between(finish, start)
+                             .isEmpty());
+        }
+
+        @Test
+        @DisplayName("values within an interval")
+        void within() {
+            Interval interval = Intervals.between(Timestamps.fromNanos(100_000),
+                                                  Timestamps.fromNanos(200_000));
+            List<Timestamp> expected = sorted.stream()
+                                             .filter(t -> Intervals.contains(interval, t))
+                                             .collect(toList());
+            assertEquals(expected, column.within(interval)
+                                         .toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("provide slices which")
+    class Slices {
+
+        @Test
+        @DisplayName("share the values of the column")
+        void view() {
+            TimestampColumn slice = column.slice(10, 20);
+            assertEquals(10, slice.size());
+            assertEquals(timestamps.subList(10, 20), slice.toList());
+            assertEquals(ImmutableList.copyOf(timestamps.subList(12, 14)),
+                         slice.slice(2, 4)
+                              .toList());
+            assertEquals(column.getEpochNanos(10), slice.getEpochNanos(0));
+        }
+
+        @Test
+        @DisplayName("are searchable")
+        void searchable() {
+            TimestampColumn slice = column.sort()
+                                          .slice(100, 200);
+            long key = slice.getEpochNanos(50);
+            assertEquals(column.lowerBound(key) - 100, slice.lowerBound(key));
+            assertEquals(column.upperBound(key) - 100, slice.upperBound(key));
+        }
+
+        @Test
+        @DisplayName("cannot be modified")
+        void readOnly() {
+            TimestampColumn slice = column.slice(0, 5);
+            assertThrows(UnsupportedOperationException.class, () -> slice.append(1L));
+            assertThrows(UnsupportedOperationException.class, slice::sort);
+        }
+
+        @Test
+        @DisplayName("reject invalid positions")
+        void rejectInvalid() {
+            assertThrows(IndexOutOfBoundsException.class, () -> column.slice(5, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> column.slice(0, SIZE + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> column.slice(0, 5)
+                                                                      .get(5));
+        }
+    }
+}
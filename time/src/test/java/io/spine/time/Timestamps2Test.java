@@ -20,12 +20,20 @@
 
 package io.spine.time;
 
+import com.google.common.collect.Range;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
 import static com.google.protobuf.util.Durations.fromSeconds;
 import static com.google.protobuf.util.Timestamps.add;
 import static com.google.protobuf.util.Timestamps.subtract;
@@ -33,7 +41,10 @@ import static io.spine.base.Time.getCurrentTime;
 import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
 import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
 import static io.spine.time.Timestamps2.isLaterThan;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("ClassCanBeStatic")
@@ -103,4 +114,181 @@ class Timestamps2Test {
             assertFalse(isAfter);
         }
     }
+
+    @Nested
+    @DisplayName("Find Timestamps between two others")
+    class BatchBetween {
+
+        private final Random random = new Random(42);
+        private final Timestamp start = Timestamps.fromSeconds(100);
+        private final Timestamp finish = Timestamps.fromNanos(200_000_000_001L);
+
+        @Test
+        @DisplayName("in a sorted column")
+        void sortedColumn() {
+            for (int round = 0; round < 100; round++) {
+                long[] nanos = randomNanos();
+                Arrays.sort(nanos);
+                List<Timestamp> timestamps = toTimestamps(nanos);
+
+                Range<Integer> range = Timestamps2.indexRangeBetween(start, finish, nanos);
+                assertEquals(range, Timestamps2.indexRangeBetween(start, finish, timestamps));
+                for (int i = 0; i < nanos.length; i++) {
+                    assertEquals(Timestamps2.isBetween(timestamps.get(i), start, finish),
+                                 range.contains(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("in an unordered column")
+        void unorderedColumn() {
+            for (int round = 0; round < 100; round++) {
+                long[] nanos = randomNanos();
+                List<Timestamp> timestamps = toTimestamps(nanos);
+
+                BitSet indexes = Timestamps2.indexesBetween(start, finish, nanos);
+                assertEquals(indexes, Timestamps2.indexesBetween(start, finish, timestamps));
+                for (int i = 0; i < nanos.length; i++) {
+                    assertEquals(Timestamps2.isBetween(timestamps.get(i), start, finish),
+                                 indexes.get(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("when the range is empty")
+        void emptyRange() {
+            long[] nanos = {0, 100, 200};
+            assertTrue(Timestamps2.indexRangeBetween(finish, start, nanos)
+                                  .isEmpty());
+            assertTrue(Timestamps2.indexesBetween(start, start, nanos)
+                                  .isEmpty());
+        }
+
+        /**
+         * Generates points around the range including its bounds.
+         */
+        private long[] randomNanos() {
+            long[] result = new long[random.nextInt(300)];
+            long[] bounds = {Timestamps.toNanos(start), Timestamps.toNanos(finish)};
+            for (int i = 0; i < result.length; i++) {
+                result[i] = random.nextInt(10) == 0
+                            ? bounds[random.nextInt(2)] + random.nextInt(3) - 1
+                            : (long) random.nextInt(300) * 1_000_000_000L;
+            }
+            return result;
+        }
+
+        private List<Timestamp> toTimestamps(long[] nanos) {
+            List<Timestamp> result = new ArrayList<>(nanos.length);
+            for (long value : nanos) {
+                result.add(Timestamps.fromNanos(value));
+            }
+            return result;
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort Timestamps")
+    class Sort {
+
+        private static final long MIN_SECONDS = -62_135_596_800L;
+        private static final long MAX_SECONDS = 253_402_300_799L;
+
+        private final Random random = new Random(42);
+
+        @Test
+        @DisplayName("within a narrow span")
+        void narrowSpan() {
+            List<Timestamp> timestamps = randomTimestamps(10_000, 1_500_000_000L, 1_000_000);
+            assertSorted(timestamps, Timestamps2.sortedPermutation(timestamps));
+            assertEquals(sortedByComparator(timestamps), Timestamps2.sorted(timestamps));
+        }
+
+        @Test
+        @DisplayName("within the whole valid range")
+        void wideSpan() {
+            List<Timestamp> timestamps =
+                    randomTimestamps(10_000, MIN_SECONDS, MAX_SECONDS - MIN_SECONDS);
+            timestamps.add(Timestamps.MIN_VALUE);
+            timestamps.add(Timestamps.MAX_VALUE);
+            assertSorted(timestamps, Timestamps2.sortedPermutation(timestamps));
+            assertEquals(sortedByComparator(timestamps), Timestamps2.sorted(timestamps));
+        }
+
+        @Test
+        @DisplayName("in parallel")
+        void parallel() {
+            int size = TimestampRadixSort.PARALLEL_THRESHOLD * 3;
+            List<Timestamp> narrow = randomTimestamps(size, 1_500_000_000L, 100_000);
+            assertSorted(narrow, Timestamps2.parallelSortedPermutation(narrow));
+            assertEquals(sortedByComparator(narrow), Timestamps2.parallelSorted(narrow));
+
+            List<Timestamp> wide = randomTimestamps(size, MIN_SECONDS, MAX_SECONDS - MIN_SECONDS);
+            assertSorted(wide, Timestamps2.parallelSortedPermutation(wide));
+        }
+
+        @Test
+        @DisplayName("keeping the order of equal values")
+        void stable() {
+            List<Timestamp> timestamps = randomTimestamps(1_000, 0, 10);
+            int[] permutation = Timestamps2.sortedPermutation(timestamps);
+            for (int i = 1; i < permutation.length; i++) {
+                if (timestamps.get(permutation[i - 1])
+                              .equals(timestamps.get(permutation[i]))) {
+                    assertTrue(permutation[i - 1] < permutation[i]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("of an empty list")
+        void empty() {
+            assertEquals(0, Timestamps2.sortedPermutation(new ArrayList<>()).length);
+        }
+
+        @Test
+        @DisplayName("rejecting invalid values")
+        void rejectInvalid() {
+            List<Timestamp> timestamps = randomTimestamps(10, 0, 10);
+            timestamps.add(Timestamp.newBuilder()
+                                    .setNanos(-1)
+                                    .build());
+            assertThrows(IllegalArgumentException.class,
+                         () -> Timestamps2.sortedPermutation(timestamps));
+        }
+
+        private List<Timestamp> randomTimestamps(int count, long minSeconds, long spanSeconds) {
+            List<Timestamp> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long seconds = minSeconds + (long) (random.nextDouble() * spanSeconds);
+                int nanos = random.nextBoolean() ? 0 : random.nextInt(1_000_000_000);
+                result.add(Timestamp.newBuilder()
+                                    .setSeconds(seconds)
+                                    .setNanos(nanos)
+                                    .build());
+            }
+            return result;
+        }
+
+        private List<Timestamp> sortedByComparator(List<Timestamp> timestamps) {
+            return timestamps.stream()
+                             .sorted(Timestamps.comparator())
+                             .collect(toList());
+        }
+
+        private void assertSorted(List<Timestamp> timestamps, int[] permutation) {
+            assertEquals(timestamps.size(), permutation.length);
+            BitSet seen = new BitSet();
+            for (int i = 0; i < permutation.length; i++) {
+                seen.set(permutation[i]);
+                if (i > 0) {
+                    assertTrue(Timestamps.compare(timestamps.get(permutation[i - 1]),
+                                                  timestamps.get(permutation[i])) <= 0);
+                }
+            }
+            assertEquals(timestamps.size(), seen.cardinality());
+        }
+    }
 }
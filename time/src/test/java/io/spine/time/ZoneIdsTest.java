@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static io.spine.test.DisplayNames.HAVE_PARAMETERLESS_CTOR;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("ClassCanBeStatic")
+@DisplayName("ZoneIds should")
+class ZoneIdsTest {
+
+    private static final String NEW_YORK = "America/New_York";
+
+    @Test
+    @DisplayName(HAVE_PARAMETERLESS_CTOR)
+    void utilityConstructor() {
+        assertHasPrivateParameterlessCtor(ZoneIds.class);
+    }
+
+    @Test
+    @DisplayName("reject null arguments")
+    void nullCheck() {
+        new NullPointerTester()
+                .setDefault(ZoneId.class, ZoneIds.of(NEW_YORK))
+                .setDefault(Timestamp.class, Timestamps.fromSeconds(0))
+                .testAllPublicStaticMethods(ZoneIds.class);
+    }
+
+    @Nested
+    @DisplayName("create an instance")
+    class Create {
+
+        @Test
+        @DisplayName("by ID")
+        void byId() {
+            ZoneId zoneId = ZoneIds.of(NEW_YORK);
+            assertEquals(NEW_YORK, zoneId.getValue());
+            assertEquals(java.time.ZoneId.of(NEW_YORK), ZoneIds.toJavaTime(zoneId));
+        }
+
+        @Test
+        @DisplayName("by Java Time value")
+        void byJavaTime() {
+            java.time.ZoneId javaTime = java.time.ZoneId.of("Europe/Kiev");
+            assertEquals(javaTime, ZoneIds.toJavaTime(ZoneIds.of(javaTime)));
+        }
+
+        @Test
+        @DisplayName("for the default time zone")
+        void systemDefault() {
+            assertEquals(java.time.ZoneId.systemDefault()
+                                         .getId(),
+                         ZoneIds.systemDefault()
+                                .getValue());
+        }
+
+        @Test
+        @DisplayName("rejecting unknown ID")
+        void rejectUnknown() {
+            assertThrows(IllegalArgumentException.class, () -> ZoneIds.of("Mars/Olympus_Mons"));
+            ZoneId unknown = ZoneId
+                    .newBuilder()
+                    .setValue("Mars/Olympus_Mons")
+                    .build();
+            assertThrows(IllegalArgumentException.class,
+                         () -> ZoneIds.offsetAt(unknown, Timestamps.fromSeconds(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("obtain offset")
+    class OffsetAt {
+
+        @Test
+        @DisplayName("the same way as Java Time in all known zones")
+        void allZones() {
+            Random random = new Random(42);
+            for (String id : java.time.ZoneId.getAvailableZoneIds()) {
+                ZoneId zoneId = ZoneIds.of(id);
+                java.time.ZoneId javaTime = java.time.ZoneId.of(id);
+                for (int i = 0; i < 200; i++) {
+                    // From about the year 1800 till 2300.
+                    long seconds = (long) (random.nextDouble() * 15_800_000_000L)
+                            - 5_400_000_000L;
+                    assertOffsetAt(zoneId, javaTime, seconds);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("at the instants of transitions")
+        void atTransitions() {
+            ZoneId zoneId = ZoneIds.of(NEW_YORK);
+            java.time.ZoneId javaTime = java.time.ZoneId.of(NEW_YORK);
+            java.time.zone.ZoneOffsetTransition transition = javaTime
+                    .getRules()
+                    .nextTransition(Instant.ofEpochSecond(0));
+            while (transition.toEpochSecond() < 5_000_000_000L) {
+                long seconds = transition.toEpochSecond();
+                assertOffsetAt(zoneId, javaTime, seconds - 1);
+                assertOffsetAt(zoneId, javaTime, seconds);
+                transition = javaTime.getRules()
+                                     .nextTransition(transition.getInstant());
+            }
+        }
+
+        @Test
+        @DisplayName("of a fixed-offset zone")
+        void fixedOffset() {
+            ZoneId zoneId = ZoneIds.of("+05:30");
+            assertEquals(0, ZoneIds.transitionsOf(zoneId)
+                                   .size());
+            assertSame(ZoneOffsets.ofHoursMinutes(5, 30),
+                       ZoneIds.offsetAt(zoneId, Timestamps.fromSeconds(0)));
+        }
+
+        @Test
+        @DisplayName("using cached transitions")
+        void cached() {
+            ZoneId zoneId = ZoneIds.of(NEW_YORK);
+            ZoneTransitions transitions = ZoneIds.transitionsOf(zoneId);
+            assertSame(transitions, ZoneIds.transitionsOf(ZoneIds.of(NEW_YORK)));
+            assertTrue(transitions.size() > 0);
+        }
+
+        private void assertOffsetAt(ZoneId zoneId, java.time.ZoneId javaTime, long seconds) {
+            java.time.ZoneOffset expected = javaTime.getRules()
+                                                    .getOffset(Instant.ofEpochSecond(seconds));
+            ZoneOffset actual = ZoneIds.offsetAt(zoneId, Timestamps.fromSeconds(seconds));
+            assertEquals(expected.getTotalSeconds(), actual.getAmountSeconds(),
+                         () -> zoneId.getValue() + " at " + seconds);
+        }
+    }
+}
@@ -20,13 +20,19 @@
 
 package io.spine.time;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.TimeZone;
 
 import static io.spine.base.Time.getCurrentTime;
@@ -39,6 +45,7 @@ import static io.spine.time.ZoneOffsets.ofHours;
 import static io.spine.time.ZoneOffsets.ofHoursMinutes;
 import static io.spine.time.ZoneOffsets.parse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("ClassCanBeStatic")
@@ -141,6 +148,37 @@ class ZoneOffsetsTest {
 
     }
 
+    @Nested
+    @DisplayName("Share instances for")
+    class Interning {
+
+        @Test
+        @DisplayName("whole quarters of an hour")
+        void quarterHours() {
+            assertSame(ofHoursMinutes(5, 45), ZoneOffsets.ofSeconds(5 * 3600 + 45 * 60));
+            assertSame(ofHours(-18), ZoneOffsets.of(java.time.ZoneOffset.ofHours(-18)));
+            assertSame(ofHours(18), parse("+18:00"));
+            assertSame(ZoneOffsets.utc(), parse("Z"));
+            assertSame(ZoneOffsets.utc(), ofHours(0));
+        }
+
+        @Test
+        @DisplayName("other offsets")
+        void otherOffsets() {
+            ZoneOffset offset = ZoneOffsets.ofSeconds(-(2 * 3600 + 7 * 60 + 30));
+            assertSame(offset, parse("-02:07:30"));
+            assertSame(offset, ZoneOffsets.ofSeconds(offset.getAmountSeconds()));
+        }
+
+        @Test
+        @DisplayName("but not for out of range offsets")
+        void outOfRange() {
+            int seconds = 19 * 3600;
+            assertEquals(seconds, ZoneOffsets.ofSeconds(seconds)
+                                             .getAmountSeconds());
+        }
+    }
+
     @Nested
     @DisplayName("Convert to String")
     class Stringify {
@@ -198,4 +236,91 @@ class ZoneOffsetsTest {
         }
 
     }
+
+    @Nested
+    @DisplayName("Obtain the default offset")
+    class Default {
+
+        private TimeZone originalTimeZone;
+
+        @BeforeEach
+        void rememberTimeZone() {
+            originalTimeZone = TimeZone.getDefault();
+        }
+
+        @AfterEach
+        void restoreTimeZone() {
+            TimeZone.setDefault(originalTimeZone);
+        }
+
+        @Test
+        @DisplayName("the same way as Java Time")
+        void sameAsJavaTime() {
+            String[] zones = {"UTC", "Asia/Kolkata", "America/New_York", "Australia/Lord_Howe"};
+            for (String zone : zones) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                java.time.ZoneOffset expected = java.time.ZoneId.of(zone)
+                                                                .getRules()
+                                                                .getOffset(Instant.now());
+                assertEquals(ZoneOffsets.of(expected), ZoneOffsets.getDefault());
+            }
+        }
+
+        @Test
+        @DisplayName("serving the cached instance")
+        void cached() {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kathmandu"));
+            assertSame(ZoneOffsets.getDefault(), ZoneOffsets.getDefault());
+        }
+
+        @Test
+        @DisplayName("notifying listeners of changes")
+        void notifyListeners() {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+            ZoneOffsets.getDefault();
+            List<ZoneOffset> changes = new ArrayList<>();
+            ZoneOffsets.DefaultChangeListener listener = (previous, current) -> {
+                changes.add(previous);
+                changes.add(current);
+            };
+            ZoneOffsets.addDefaultChangeListener(listener);
+            try {
+                TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+                ZoneOffsets.getDefault();
+                ZoneOffsets.getDefault();
+                TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+                ZoneOffsets.getDefault();
+            } finally {
+                ZoneOffsets.removeDefaultChangeListener(listener);
+            }
+            assertEquals(ImmutableList.of(ofHoursMinutes(5, 30), ofHours(9)), changes);
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            ZoneOffsets.getDefault();
+            assertEquals(2, changes.size());
+        }
+
+        @Test
+        @DisplayName("isolating failures of listeners")
+        void isolateListenerFailures() {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+            ZoneOffsets.getDefault();
+            List<ZoneOffset> changes = new ArrayList<>();
+            ZoneOffsets.DefaultChangeListener failing = (previous, current) -> {
+                throw new IllegalStateException("Listener failure.");
+            };
+            ZoneOffsets.DefaultChangeListener listener =
+                    (previous, current) -> changes.add(current);
+            ZoneOffsets.addDefaultChangeListener(failing);
+            ZoneOffsets.addDefaultChangeListener(listener);
+            try {
+                TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+                assertEquals(ofHours(9), ZoneOffsets.getDefault());
+            } finally {
+                ZoneOffsets.removeDefaultChangeListener(failing);
+                ZoneOffsets.removeDefaultChangeListener(listener);
+            }
+            assertEquals(ImmutableList.of(ofHours(9)), changes);
+        }
+    }
 }